@@ -0,0 +1,87 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.converter.GameToGameDetailsDtoConverter;
+import com.numarics.game.converter.GameToStartGameResponseDtoConverter;
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.game.model.dto.StartGameResponseDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.player.converter.PlayerToPlayerDetailsDtoConverter;
+import com.numarics.player.converter.PlayerToRegisterPlayerResponseDtoConverter;
+import com.numarics.player.model.dto.PlayerDetailsDto;
+import com.numarics.player.model.dto.RegisterPlayerResponseDto;
+import com.numarics.player.model.entity.Player;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private ConversionService conversionService;
+    private Game game;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        // Same converters, on the same kind of service, as the web layers register through WebConfig
+        var service = new DefaultFormattingConversionService();
+        service.addConverter(new GameToGameDetailsDtoConverter());
+        service.addConverter(new GameToStartGameResponseDtoConverter());
+        service.addConverter(new PlayerToRegisterPlayerResponseDtoConverter());
+        service.addConverter(new PlayerToPlayerDetailsDtoConverter());
+        conversionService = service;
+
+        game = Fixtures.game(42);
+        player = Fixtures.player(42);
+    }
+
+    @Benchmark
+    public GameDetailsDto gameDetails() {
+        return conversionService.convert(game, GameDetailsDto.class);
+    }
+
+    @Benchmark
+    public StartGameResponseDto startGameResponse() {
+        return conversionService.convert(game, StartGameResponseDto.class);
+    }
+
+    @Benchmark
+    public List<GameDetailsDto> searchResults(SearchResults searchResults) {
+        return searchResults.games.stream()
+                .map(game -> conversionService.convert(game, GameDetailsDto.class))
+                .toList();
+    }
+
+    @Benchmark
+    public PlayerDetailsDto playerDetails() {
+        return conversionService.convert(player, PlayerDetailsDto.class);
+    }
+
+    @Benchmark
+    public RegisterPlayerResponseDto registerPlayerResponse() {
+        return conversionService.convert(player, RegisterPlayerResponseDto.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SearchResults {
+
+        // Default and maximum search page sizes
+        @Param({"50", "500"})
+        private int size;
+
+        private List<Game> games;
+
+        @Setup
+        public void setUp() {
+            games = Fixtures.games(size);
+        }
+    }
+}
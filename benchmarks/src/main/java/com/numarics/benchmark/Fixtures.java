@@ -0,0 +1,38 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.model.entity.Game;
+import com.numarics.player.model.entity.Player;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class Fixtures {
+
+    private static final Instant CREATED_AT = Instant.parse("2023-01-01T10:15:30.123456Z");
+
+    private Fixtures() {
+    }
+
+    static Game game(long id) {
+        return new Game()
+                .setId(id)
+                .setName("game-" + id)
+                .setStatus(Game.Status.NEW)
+                .setCreatedAt(CREATED_AT)
+                .setUpdatedAt(CREATED_AT.plusSeconds(id));
+    }
+
+    static List<Game> games(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(Fixtures::game)
+                .toList();
+    }
+
+    static Player player(long id) {
+        return new Player()
+                .setId(id)
+                .setName("player-" + id)
+                .setGameId(id);
+    }
+}
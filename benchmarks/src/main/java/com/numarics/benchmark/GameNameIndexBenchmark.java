@@ -0,0 +1,90 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.GameServiceApplication;
+import com.numarics.game.service.GameNameIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameNameIndexBenchmark {
+
+    public enum Pattern {
+        // "game-<n>" with n three digits shorter than the largest ids, so every prefix matches about a hundred games
+        PREFIX,
+        // "game-<d>", a single leading digit covering about a ninth of all names
+        BROAD_PREFIX,
+        // Four digits, found in the middle of a few hundred names
+        CONTAINS
+    }
+
+    private static final int PATTERN_POOL_SIZE = 1024;
+    private static final int LIMIT = 51;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param
+    private Pattern pattern;
+
+    private ConfigurableApplicationContext context;
+    private GameNameIndex gameNameIndex;
+    private String[] patterns;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = ServiceContexts.start(GameServiceApplication.class, Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark-names-" + size,
+                "spring.flyway.locations", "classpath:db/migration/game",
+                "player-service.host", "localhost",
+                "player-service.port", "8081",
+                "player-service.entryPoint", "player"));
+        seed(context.getBean(JdbcTemplate.class));
+        gameNameIndex = context.getBean(GameNameIndex.class);
+        gameNameIndex.rebuild();
+
+        var random = new Random(size);
+        patterns = new String[PATTERN_POOL_SIZE];
+        for (int i = 0; i < PATTERN_POOL_SIZE; i++) {
+            patterns[i] = switch (pattern) {
+                case PREFIX -> "GAME-" + (size / 1000 + random.nextInt(size / 100 - size / 1000));
+                case BROAD_PREFIX -> "GAME-" + (1 + random.nextInt(9));
+                case CONTAINS -> String.valueOf(1000 + random.nextInt(9000));
+            };
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Long> find(RowCounter counter) {
+        var value = patterns[next++ & (PATTERN_POOL_SIZE - 1)];
+        var ids = pattern != Pattern.CONTAINS
+                ? gameNameIndex.find(value, null, null, LIMIT)
+                : gameNameIndex.find(null, value, null, LIMIT);
+        counter.rows += ids.size();
+
+        return ids;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO games (id, name, status, created_at, updated_at)
+                SELECT X, CONCAT('game-', X), 'NEW', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", size);
+    }
+}
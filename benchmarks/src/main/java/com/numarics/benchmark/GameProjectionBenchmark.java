@@ -0,0 +1,116 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.GameServiceApplication;
+import com.numarics.game.mapper.GameMapper;
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.repository.GameRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameProjectionBenchmark {
+
+    public enum Path {
+        // Managed Game entities mapped to DTOs afterwards, the read path before projections
+        ENTITY,
+        // Rows selected straight into GameDetailsDto
+        PROJECTION
+    }
+
+    private static final int SIZE = 100_000;
+    private static final int CURSOR_POOL_SIZE = 1024;
+
+    @Param({"50", "500", "5000"})
+    private int limit;
+
+    @Param
+    private Path path;
+
+    private ConfigurableApplicationContext context;
+    private GameRepository gameRepository;
+    private EntityManager entityManager;
+    private TransactionOperations readOnlyTransactionOperations;
+    private long[] cursors;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = ServiceContexts.start(GameServiceApplication.class, Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark-projections",
+                "spring.flyway.locations", "classpath:db/migration/game",
+                "player-service.host", "localhost",
+                "player-service.port", "8081",
+                "player-service.entryPoint", "player"));
+        seed(context.getBean(JdbcTemplate.class));
+        gameRepository = context.getBean(GameRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransactionOperations = context.getBean("readOnlyTransactionOperations", TransactionOperations.class);
+
+        // Pages start at random offsets so consecutive searches do not read the same rows
+        var random = new Random(limit);
+        cursors = new long[CURSOR_POOL_SIZE];
+        for (int i = 0; i < CURSOR_POOL_SIZE; i++) {
+            cursors[i] = random.nextInt(SIZE - limit);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<GameDetailsDto> search(RowCounter counter) {
+        var filter = new GameSearchFilter()
+                .setGameIds(new ArrayList<>())
+                .setAfterId(cursors[next++ & (CURSOR_POOL_SIZE - 1)])
+                .setLimit(limit);
+        var games = readOnlyTransactionOperations.execute(status -> switch (path) {
+            case ENTITY -> searchEntities(filter).stream()
+                    .map(GameMapper.INSTANCE::mapToDetails)
+                    .toList();
+            case PROJECTION -> gameRepository.searchDetails(filter).getContent();
+        });
+        counter.rows += games.size();
+
+        return games;
+    }
+
+    private List<Game> searchEntities(GameSearchFilter filter) {
+        // Same page shape as GameRepositoryCustom#searchDetails, including the extra row probing for a next page
+        var games = entityManager.createQuery("SELECT g FROM Game g WHERE g.id > :afterId ORDER BY g.id", Game.class)
+                .setParameter("afterId", filter.getAfterId())
+                .setMaxResults(filter.getLimit() + 1)
+                .getResultList();
+
+        return games.size() > filter.getLimit() ? games.subList(0, filter.getLimit()) : games;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO games (id, name, status, created_at, updated_at)
+                SELECT X, CONCAT('game-', X), CASE WHEN MOD(X, 10) = 0 THEN 'NEW' ELSE 'FINISHED' END,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", SIZE);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,118 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.GameServiceApplication;
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.repository.GameRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSearchBenchmark {
+
+    public enum Filter {
+        NONE,
+        STATUS,
+        RARE_STATUS,
+        NAME,
+        STATUS_AND_NAME,
+        GAME_IDS
+    }
+
+    private static final int FILTER_POOL_SIZE = 1024;
+    private static final int PLAYER_GAMES = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private Filter filter;
+
+    private ConfigurableApplicationContext context;
+    private GameRepository gameRepository;
+    private GameSearchFilter[] filters;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = ServiceContexts.start(GameServiceApplication.class, Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark-games-" + size,
+                "spring.flyway.locations", "classpath:db/migration/game",
+                "player-service.host", "localhost",
+                "player-service.port", "8081",
+                "player-service.entryPoint", "player"));
+        seed(context.getBean(JdbcTemplate.class));
+        gameRepository = context.getBean(GameRepository.class);
+
+        // Filters are built up front so the measured loop does not pay for the random values
+        var random = new Random(size);
+        filters = new GameSearchFilter[FILTER_POOL_SIZE];
+        for (int i = 0; i < FILTER_POOL_SIZE; i++) {
+            filters[i] = buildFilter(random);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<GameDetailsDto> search(RowCounter counter) {
+        var games = gameRepository.searchDetails(filters[next++ & (FILTER_POOL_SIZE - 1)]).getContent();
+        counter.rows += games.size();
+
+        return games;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        // 90% FINISHED, 9% NEW and 1% DROPPED, names are unique
+        jdbcTemplate.update("""
+                INSERT INTO games (id, name, status, created_at, updated_at)
+                SELECT X, CONCAT('game-', X),
+                       CASE WHEN MOD(X, 100) = 0 THEN 'DROPPED' WHEN MOD(X, 10) = 0 THEN 'NEW' ELSE 'FINISHED' END,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", size);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private GameSearchFilter buildFilter(Random random) {
+        var searchFilter = new GameSearchFilter()
+                .setGameIds(new ArrayList<>())
+                .setLimit(50);
+
+        return switch (filter) {
+            case NONE -> searchFilter;
+            case STATUS -> searchFilter.setStatus(Game.Status.NEW);
+            case RARE_STATUS -> searchFilter.setStatus(Game.Status.DROPPED);
+            case NAME -> searchFilter.setName(randomName(random));
+            case STATUS_AND_NAME -> searchFilter.setStatus(Game.Status.FINISHED).setName(randomName(random));
+            case GAME_IDS -> searchFilter.setGameIds(LongStream.generate(() -> randomId(random))
+                    .limit(PLAYER_GAMES)
+                    .boxed()
+                    .toList());
+        };
+    }
+
+    private String randomName(Random random) {
+        return "game-" + randomId(random);
+    }
+
+    private long randomId(Random random) {
+        return 1 + random.nextInt(size);
+    }
+}
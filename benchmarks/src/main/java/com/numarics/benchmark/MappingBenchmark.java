@@ -0,0 +1,51 @@
+package com.numarics.benchmark;
+
+import com.numarics.game.mapper.GameMapper;
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.game.model.dto.StartGameResponseDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.player.mapper.PlayerMapper;
+import com.numarics.player.model.dto.PlayerDetailsDto;
+import com.numarics.player.model.dto.RegisterPlayerResponseDto;
+import com.numarics.player.model.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private Game game;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        game = Fixtures.game(42);
+        player = Fixtures.player(42);
+    }
+
+    @Benchmark
+    public GameDetailsDto gameDetails() {
+        return GameMapper.INSTANCE.mapToDetails(game);
+    }
+
+    @Benchmark
+    public StartGameResponseDto startGameResponse() {
+        return GameMapper.INSTANCE.mapToStartGameResponseDto(game);
+    }
+
+    @Benchmark
+    public PlayerDetailsDto playerDetails() {
+        return PlayerMapper.INSTANCE.mapToDetailsDto(player);
+    }
+
+    @Benchmark
+    public RegisterPlayerResponseDto registerPlayerResponse() {
+        return PlayerMapper.INSTANCE.mapToRegisterPlayerResponseDto(player);
+    }
+}
@@ -0,0 +1,71 @@
+package com.numarics.benchmark;
+
+import com.numarics.player.PlayerServiceApplication;
+import com.numarics.player.service.PlayerGameIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerLookupBenchmark {
+
+    private static final int NAME_POOL_SIZE = 1024;
+    private static final int PLAYERS_PER_NAME = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private PlayerGameIndex playerGameIndex;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = ServiceContexts.start(PlayerServiceApplication.class, Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark-players-" + size,
+                "spring.flyway.locations", "classpath:db/migration/player"));
+        seed(context.getBean(JdbcTemplate.class));
+        playerGameIndex = context.getBean(PlayerGameIndex.class);
+        // The context indexed an empty table on startup
+        playerGameIndex.rebuild();
+
+        var random = new Random(size);
+        names = new String[NAME_POOL_SIZE];
+        for (int i = 0; i < NAME_POOL_SIZE; i++) {
+            names[i] = "player-" + random.nextInt(size / PLAYERS_PER_NAME);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Long> gameIdsFromIndex(RowCounter counter) {
+        var gameIds = playerGameIndex.getGameIds(names[next++ & (NAME_POOL_SIZE - 1)]);
+        counter.rows += gameIds.size();
+
+        return gameIds;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        // Every name is shared by PLAYERS_PER_NAME players, each in its own game
+        jdbcTemplate.update("""
+                INSERT INTO players (id, name, game_id)
+                SELECT X, CONCAT('player-', MOD(X, ?)), X
+                FROM SYSTEM_RANGE(1, ?)""", size / PLAYERS_PER_NAME, size);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
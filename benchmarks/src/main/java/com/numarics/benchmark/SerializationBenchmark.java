@@ -0,0 +1,70 @@
+package com.numarics.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.numarics.game.mapper.GameMapper;
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.player.mapper.PlayerMapper;
+import com.numarics.player.model.dto.PlayerDetailsDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectWriter writer;
+    private GameDetailsDto game;
+    private PlayerDetailsDto player;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot's default ObjectMapper setup, as used by the message converters of both services
+        var objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+
+        game = GameMapper.INSTANCE.mapToDetails(Fixtures.game(42));
+        player = PlayerMapper.INSTANCE.mapToDetailsDto(Fixtures.player(42));
+    }
+
+    @Benchmark
+    public byte[] gameDetails() throws JsonProcessingException {
+        return writer.writeValueAsBytes(game);
+    }
+
+    @Benchmark
+    public byte[] searchResults(SearchResults searchResults) throws JsonProcessingException {
+        return writer.writeValueAsBytes(searchResults.games);
+    }
+
+    @Benchmark
+    public byte[] playerDetails() throws JsonProcessingException {
+        return writer.writeValueAsBytes(player);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SearchResults {
+
+        @Param({"50", "500"})
+        private int size;
+
+        private List<GameDetailsDto> games;
+
+        @Setup
+        public void setUp() {
+            games = Fixtures.games(size).stream()
+                    .map(GameMapper.INSTANCE::mapToDetails)
+                    .toList();
+        }
+    }
+}
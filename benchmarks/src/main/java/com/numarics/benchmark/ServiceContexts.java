@@ -0,0 +1,31 @@
+package com.numarics.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+final class ServiceContexts {
+
+    // Both services ship an application.yml, which shadow each other on this classpath, so none is read
+    private static final Map<String, String> COMMON_PROPERTIES = Map.of(
+            "spring.config.name", "benchmark",
+            // The controllers need the MVC infrastructure, the port is never called
+            "server.port", "0",
+            "spring.main.banner-mode", "off",
+            "logging.level.root", "warn",
+            // Measure the database path rather than the second-level cache
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache", "false");
+
+    private ServiceContexts() {
+    }
+
+    static ConfigurableApplicationContext start(Class<?> application, Map<String, String> properties) {
+        var args = Stream.concat(COMMON_PROPERTIES.entrySet().stream(), properties.entrySet().stream())
+                .map(property -> "--%s=%s".formatted(property.getKey(), property.getValue()))
+                .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(application).run(args);
+    }
+}
@@ -0,0 +1,116 @@
+package com.numarics.common.player;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArraySet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import java.util.List;
+
+// Not thread-safe, owners guard it with their own lock
+public class PlayerGames {
+
+    // Compressed oops and Latin-1 names assumed, the estimate only has to track growth
+    private static final int REFERENCE_BYTES = 4;
+    private static final int SET_BYTES = 56;
+    private static final int STRING_BYTES = 40;
+
+    private final Long2ObjectOpenHashMap<String> names = new Long2ObjectOpenHashMap<>();
+    // Only players that are in a game have an entry
+    private final Long2LongOpenHashMap games = new Long2LongOpenHashMap();
+    private final Object2ObjectOpenHashMap<String, LongSet> playersByName = new Object2ObjectOpenHashMap<>();
+    // Lets a removed game be cleared without scanning every player
+    private final Long2ObjectOpenHashMap<LongSet> playersByGame = new Long2ObjectOpenHashMap<>();
+    private long nameBytes;
+
+    public void put(Long id, String name, Long gameId) {
+        remove(id);
+        names.put(id.longValue(), name);
+        var namePlayers = playersByName.get(name);
+        if (namePlayers == null) {
+            namePlayers = new LongArraySet(1);
+            playersByName.put(name, namePlayers);
+            nameBytes += STRING_BYTES + name.length();
+        }
+        namePlayers.add(id.longValue());
+        if (gameId != null) {
+            games.put(id.longValue(), gameId.longValue());
+            playersByGame.computeIfAbsent(gameId.longValue(), key -> new LongOpenHashSet()).add(id.longValue());
+        }
+    }
+
+    public void remove(Long id) {
+        var name = names.remove(id.longValue());
+        if (name == null) {
+            return;
+        }
+        var namePlayers = playersByName.get(name);
+        namePlayers.remove(id.longValue());
+        if (namePlayers.isEmpty()) {
+            playersByName.remove(name);
+            nameBytes -= STRING_BYTES + name.length();
+        }
+        if (games.containsKey(id.longValue())) {
+            long gameId = games.remove(id.longValue());
+            var gamePlayers = playersByGame.get(gameId);
+            gamePlayers.remove(id.longValue());
+            if (gamePlayers.isEmpty()) {
+                playersByGame.remove(gameId);
+            }
+        }
+    }
+
+    public void clearGame(Long gameId) {
+        var players = playersByGame.remove(gameId.longValue());
+        if (players != null) {
+            players.forEach((long playerId) -> games.remove(playerId));
+        }
+    }
+
+    public void clear() {
+        names.clear();
+        games.clear();
+        playersByName.clear();
+        playersByGame.clear();
+        nameBytes = 0;
+    }
+
+    public List<Long> getGameIds(String name) {
+        var players = playersByName.get(name);
+        if (players == null) {
+            return List.of();
+        }
+        // Players sharing a name may share a game too, each game is listed once
+        var gameIds = new LongOpenHashSet(players.size());
+        players.forEach((long playerId) -> {
+            if (games.containsKey(playerId)) {
+                gameIds.add(games.get(playerId));
+            }
+        });
+
+        return gameIds.longStream().sorted().boxed().toList();
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public long estimatedBytes() {
+        long ids = (long) names.size() * Long.BYTES + (long) games.size() * Long.BYTES;
+
+        return tableBytes(names.size(), Long.BYTES + REFERENCE_BYTES)
+                + tableBytes(games.size(), Long.BYTES + Long.BYTES)
+                + tableBytes(playersByName.size(), REFERENCE_BYTES + REFERENCE_BYTES)
+                + tableBytes(playersByGame.size(), Long.BYTES + REFERENCE_BYTES)
+                + (long) (playersByName.size() + playersByGame.size()) * SET_BYTES
+                + ids + nameBytes;
+    }
+
+    private static long tableBytes(int size, int bytesPerSlot) {
+        // Open addressing tables keep a power of two slots at the default load factor
+        return (long) HashCommon.arraySize(size, 0.75f) * bytesPerSlot;
+    }
+}
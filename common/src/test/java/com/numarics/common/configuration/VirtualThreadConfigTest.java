@@ -0,0 +1,56 @@
+package com.numarics.common.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+class VirtualThreadConfigTest {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadConfig.class, TaskExecutionAutoConfiguration.class));
+
+    @Test
+    @DisplayName("Disabled - ok, platform thread pool kept")
+    void disabled_okPlatformThreadPoolKept() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(VirtualThreadConfig.class);
+            assertThat(context.getBean(APPLICATION_TASK_EXECUTOR_BEAN_NAME))
+                    .isInstanceOf(ThreadPoolTaskExecutor.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Enabled - startup failed before Java 21")
+    void enabled_startupFailedBeforeJava21() {
+        assumeTrue(Runtime.version().feature() < 21);
+
+        contextRunner.withPropertyValues("threads.virtual.enabled=true")
+                .run(context -> assertThat(context).getFailure()
+                        .hasStackTraceContaining("Virtual threads require Java 21 or later"));
+    }
+
+    @Test
+    @DisplayName("Enabled - ok, async work run on virtual threads")
+    void enabled_okAsyncWorkRunOnVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        contextRunner.withPropertyValues("threads.virtual.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ExecutorService.class);
+                    var executor = context.getBean(APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class);
+                    var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+                    assertThat(thread.toString()).startsWith("VirtualThread");
+                });
+    }
+}
@@ -0,0 +1,123 @@
+package com.numarics.common.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerGamesTest {
+
+    PlayerGames playerGames = new PlayerGames();
+
+    @Test
+    @DisplayName("Get game IDs - ok, shared games listed once in order")
+    void getGameIds_okSharedGamesListedOnce() {
+        // Given
+        playerGames.put(1L, "alice", 20L);
+        playerGames.put(2L, "alice", 10L);
+        playerGames.put(3L, "alice", 20L);
+        playerGames.put(4L, "alice", null);
+        playerGames.put(5L, "bob", 30L);
+
+        // When
+        var result = playerGames.getGameIds("alice");
+
+        // Then
+        assertThat(result).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Get game IDs - ok, unknown name")
+    void getGameIds_okUnknownName() {
+        assertThat(playerGames.getGameIds("nobody")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Put - ok, moved player reindexed")
+    void put_okMovedPlayerReindexed() {
+        // Given
+        playerGames.put(1L, "alice", 10L);
+        playerGames.put(2L, "alice", 10L);
+
+        // When
+        playerGames.put(1L, "alice", 20L);
+        playerGames.put(2L, "alice", null);
+        playerGames.clearGame(10L);
+
+        // Then
+        assertThat(playerGames.getGameIds("alice")).containsExactly(20L);
+        assertThat(playerGames.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Clear game - ok, other games kept")
+    void clearGame_okOtherGamesKept() {
+        // Given
+        playerGames.put(1L, "alice", 10L);
+        playerGames.put(2L, "alice", 20L);
+        playerGames.put(3L, "bob", 10L);
+
+        // When
+        playerGames.clearGame(10L);
+        playerGames.clearGame(30L);
+
+        // Then
+        assertThat(playerGames.getGameIds("alice")).containsExactly(20L);
+        assertThat(playerGames.getGameIds("bob")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Remove - ok, name kept while shared")
+    void remove_okNameKeptWhileShared() {
+        // Given
+        playerGames.put(1L, "alice", 10L);
+        playerGames.put(2L, "alice", 10L);
+        playerGames.put(3L, "bob", null);
+
+        // When
+        playerGames.remove(1L);
+        playerGames.remove(3L);
+        playerGames.remove(4L);
+
+        // Then
+        assertThat(playerGames.getGameIds("alice")).containsExactly(10L);
+        assertThat(playerGames.getGameIds("bob")).isEmpty();
+        assertThat(playerGames.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Clear - ok, every player dropped")
+    void clear_okEveryPlayerDropped() {
+        // Given
+        long empty = playerGames.estimatedBytes();
+        playerGames.put(1L, "alice", 10L);
+
+        // When
+        playerGames.clear();
+
+        // Then
+        assertThat(playerGames.getGameIds("alice")).isEmpty();
+        assertThat(playerGames.size()).isZero();
+        assertThat(playerGames.estimatedBytes()).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("Estimated bytes - ok, estimate follows the players")
+    void estimatedBytes_okEstimateFollowsPlayers() {
+        // Given
+        long empty = playerGames.estimatedBytes();
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            playerGames.put(id, "player-" + id, id);
+        }
+        long filled = playerGames.estimatedBytes();
+        for (long id = 1; id <= 100; id++) {
+            playerGames.remove(id);
+        }
+
+        // Then
+        assertThat(filled).isGreaterThan(empty);
+        assertThat(playerGames.estimatedBytes()).isEqualTo(empty);
+    }
+}
@@ -0,0 +1,47 @@
+package com.numarics.common.transaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.numarics.common.transaction.TransactionHooks.afterCommit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionHooksTest {
+
+    List<String> changes = new ArrayList<>();
+
+    @Test
+    @DisplayName("After commit - ok, deferred until the transaction commits")
+    void afterCommit_okDeferredUntilCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            afterCommit(() -> changes.add("change"));
+            var beforeCommit = List.copyOf(changes);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(changes).containsExactly("change");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("After commit - ok, run straight away without a transaction")
+    void afterCommit_okRunWithoutTransaction() {
+        // When
+        afterCommit(() -> changes.add("change"));
+
+        // Then
+        assertThat(changes).containsExactly("change");
+    }
+}
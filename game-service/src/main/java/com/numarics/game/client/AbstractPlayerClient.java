@@ -0,0 +1,204 @@
+package com.numarics.game.client;
+
+import com.numarics.game.client.dto.RegisterPlayerRequestDto;
+import com.numarics.game.client.dto.RegisterPlayersRequestDto;
+import com.numarics.game.configuration.AppProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static java.util.UUID.randomUUID;
+import static org.apache.hc.core5.http.HttpVersion.HTTP;
+
+public abstract class AbstractPlayerClient implements PlayerClient {
+
+    public static final String REQUESTS_METRIC = "player.client.requests";
+    public static final String INSTANCE_PREFIX = "player-service.";
+
+    protected static final String REGISTER = "register";
+    protected static final String GAMES = "games";
+    protected static final String BATCH = "batch";
+    protected static final String SNAPSHOT = "snapshot";
+
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final IdempotentCallPolicy idempotentCallPolicy;
+
+    protected AbstractPlayerClient(AppProperties appProperties,
+                                   MeterRegistry meterRegistry,
+                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                   BulkheadRegistry bulkheadRegistry,
+                                   IdempotentCallPolicy idempotentCallPolicy) {
+        this.appProperties = appProperties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.idempotentCallPolicy = idempotentCallPolicy;
+    }
+
+    protected URI buildRequestUri(String... paths) {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance()
+                .scheme(HTTP)
+                .host(appProperties.getPlayerServiceHost())
+                .port(appProperties.getPlayerServicePort())
+                .pathSegment(appProperties.getPlayerServiceEntryPoint());
+        Arrays.stream(paths)
+                .forEach(builder::pathSegment);
+
+        // Segments such as player names are encoded here, neither client encodes a URI it is handed
+        return builder.build().encode().toUri();
+    }
+
+    protected URI buildSnapshotUri(Long afterId, int limit) {
+        return UriComponentsBuilder.fromUri(buildRequestUri(SNAPSHOT))
+                .queryParamIfPresent("afterId", Optional.ofNullable(afterId))
+                .queryParam("limit", limit)
+                .build()
+                .toUri();
+    }
+
+    protected RegisterPlayerRequestDto newPlayer(Long gameId) {
+        return new RegisterPlayerRequestDto(randomUUID().toString(), gameId);
+    }
+
+    protected RegisterPlayersRequestDto newPlayers(List<Long> gameIds) {
+        return new RegisterPlayersRequestDto(gameIds.stream()
+                .map(this::newPlayer)
+                .toList());
+    }
+
+    protected <T> CompletableFuture<T> idempotent(String operation, Supplier<CompletableFuture<T>> call) {
+        // Every retry or hedge is a separate guarded attempt, so the breaker and bulkhead see each one
+        return idempotentCallPolicy.execute(operation, () -> guarded(operation, call));
+    }
+
+    protected <T> CompletableFuture<T> guarded(String operation, Supplier<CompletableFuture<T>> call) {
+        var circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + operation);
+        var bulkhead = bulkheadRegistry.bulkhead(INSTANCE_PREFIX + operation);
+
+        // Rejections are thrown rather than returned, so callers fail fast before any transactional work commits
+        circuitBreaker.acquirePermission();
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException exception) {
+            circuitBreaker.releasePermission();
+            throw exception;
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        CompletableFuture<T> result;
+        try {
+            result = timed(operation, call);
+        } catch (RuntimeException exception) {
+            complete(circuitBreaker, bulkhead, start, exception);
+            throw exception;
+        }
+
+        return whenComplete(result, (value, failure) -> complete(circuitBreaker, bulkhead, start, failure));
+    }
+
+    private <T> CompletableFuture<T> timed(String operation, Supplier<CompletableFuture<T>> call) {
+        // Timed until the returned future completes, so async calls include the whole remote round trip
+        var sample = Timer.start(meterRegistry);
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException exception) {
+            stop(sample, operation, exception);
+            throw exception;
+        }
+
+        return whenComplete(result, (value, failure) -> stop(sample, operation, failure));
+    }
+
+    private static <T> CompletableFuture<T> whenComplete(CompletableFuture<T> call,
+                                                         BiConsumer<? super T, ? super Throwable> action) {
+        // Unlike CompletableFuture#whenComplete the action also runs for a call whose result was cancelled, so an
+        // abandoned call still gives back its permits
+        var result = new CompletableFuture<T>();
+        call.whenComplete((value, failure) -> {
+            try {
+                action.accept(value, failure);
+            } finally {
+                if (failure == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(failure);
+                }
+            }
+        });
+
+        return cancellable(result, call);
+    }
+
+    protected static <T> CompletableFuture<T> cancellable(CompletableFuture<T> result, Future<?> call) {
+        // Cancelling a dependent future leaves its source running, so a caller giving up on the result, like a
+        // hedge that lost, has it passed down to the request itself
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    private static void complete(CircuitBreaker circuitBreaker, Bulkhead bulkhead, long start, Throwable failure) {
+        bulkhead.onComplete();
+        long duration = circuitBreaker.getCurrentTimestamp() - start;
+        if (failure == null) {
+            circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+        } else if (unwrap(failure) instanceof CancellationException) {
+            // Abandoned by the caller, which says nothing about the health of player-service
+            circuitBreaker.releasePermission();
+        } else {
+            circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), unwrap(failure));
+        }
+    }
+
+    private void stop(Timer.Sample sample, String operation, Throwable failure) {
+        sample.stop(Timer.builder(REQUESTS_METRIC)
+                .description("Calls to player-service")
+                .tag("operation", operation)
+                .tag("outcome", outcome(failure).name())
+                // Computed in this instance for the hedge delay to read back, dashboards aggregate the exported
+                // histogram buckets instead
+                .publishPercentiles(IdempotentCallPolicy.HEDGE_PERCENTILE)
+                .register(meterRegistry));
+    }
+
+    private static Outcome outcome(Throwable failure) {
+        if (failure == null) {
+            return Outcome.SUCCESS;
+        }
+        if (unwrap(failure) instanceof RestClientResponseException exception) {
+            return Outcome.forStatus(exception.getStatusCode().value());
+        }
+
+        return Outcome.UNKNOWN;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,202 @@
+package com.numarics.game.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.client.dto.PlayersDetailsDto;
+import com.numarics.game.client.dto.UpdatePlayerGameRequestDto;
+import com.numarics.game.client.dto.UpdatePlayersGameRequestDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Component
+@ConditionalOnProperty(name = "player-service.client.mode", havingValue = "async")
+public class AsyncPlayerClient extends AbstractPlayerClient {
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    public AsyncPlayerClient(AppProperties appProperties,
+                             CloseableHttpAsyncClient httpAsyncClient,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             IdempotentCallPolicy idempotentCallPolicy,
+                             @Qualifier(APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        super(appProperties, meterRegistry, circuitBreakerRegistry, bulkheadRegistry, idempotentCallPolicy);
+        this.httpAsyncClient = httpAsyncClient;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Void> registerPlayer(Long gameId) {
+        return guarded("registerPlayer", () -> {
+            var dto = newPlayer(gameId);
+            var request = withJsonBody(SimpleRequestBuilder.post(buildRequestUri(REGISTER)), dto);
+
+            return execute(request, response -> null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> registerPlayers(List<Long> gameIds) {
+        return guarded("registerPlayers", () -> {
+            var request = withJsonBody(SimpleRequestBuilder.post(buildRequestUri(REGISTER, BATCH)),
+                    newPlayers(gameIds));
+
+            return execute(request, response -> null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerDetailsDto> updatePlayerGame(Long playerId, Long gameId) {
+        return guarded("updatePlayerGame", () -> {
+            var dto = new UpdatePlayerGameRequestDto(gameId);
+            var request = withJsonBody(SimpleRequestBuilder.patch(buildRequestUri(playerId.toString())), dto);
+
+            return execute(request, response -> readBody(response, PlayerDetailsDto.class));
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<PlayerDetailsDto>> updatePlayersGame(List<PlayerGameDto> playerGames) {
+        return guarded("updatePlayersGame", () -> {
+            var dto = new UpdatePlayersGameRequestDto(playerGames);
+            var request = withJsonBody(SimpleRequestBuilder.patch(buildRequestUri(BATCH)), dto);
+
+            return execute(request, response -> readBody(response, PlayersDetailsDto.class).players());
+        });
+    }
+
+    @Override
+    public CompletableFuture<GameSearchResponseDto> getGamesByPlayerName(String playerName) {
+        return idempotent("getGamesByPlayerName", () -> {
+            var request = SimpleRequestBuilder.get(buildRequestUri(playerName, GAMES))
+                    .addHeader(ACCEPT, APPLICATION_JSON_VALUE)
+                    .build();
+
+            return execute(request, response -> readBody(response, GameSearchResponseDto.class));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeGame(Long gameId) {
+        return guarded("removeGame", () -> {
+            var request = SimpleRequestBuilder.put(buildRequestUri(GAMES, gameId.toString()))
+                    .build();
+
+            return execute(request, response -> null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerSnapshotDto> getPlayerSnapshot(Long afterId, int limit) {
+        return guarded("getPlayerSnapshot", () -> {
+            var request = SimpleRequestBuilder.get(buildSnapshotUri(afterId, limit))
+                    .addHeader(ACCEPT, APPLICATION_JSON_VALUE)
+                    .build();
+
+            return execute(request, response -> readBody(response, PlayerSnapshotDto.class));
+        });
+    }
+
+    private <T> CompletableFuture<T> execute(SimpleHttpRequest request, Function<SimpleHttpResponse, T> reader) {
+        var future = new CompletableFuture<SimpleHttpResponse>();
+        var exchange = httpAsyncClient.execute(request, new FutureCallback<>() {
+
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                future.completeExceptionally(new ResourceAccessException(
+                        "I/O error on %s request for \"%s\"".formatted(request.getMethod(), request.getPath()),
+                        exception instanceof IOException ioException ? ioException : new IOException(exception)));
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+
+        // Continuations must not run on the I/O reactor threads of the HTTP client
+        return cancellable(future.thenApplyAsync(response -> reader.apply(checkStatus(response)), executor), exchange);
+    }
+
+    private SimpleHttpRequest withJsonBody(SimpleRequestBuilder builder, Object body) {
+        return builder
+                .addHeader(ACCEPT, APPLICATION_JSON_VALUE)
+                .setBody(json(() -> objectMapper.writeValueAsBytes(body), "Could not write request body"),
+                        ContentType.APPLICATION_JSON)
+                .build();
+    }
+
+    private <T> T readBody(SimpleHttpResponse response, Class<T> type) {
+        return json(() -> objectMapper.readValue(response.getBodyBytes(), type),
+                "Error while extracting response for type [%s]", type);
+    }
+
+    private static <T> T json(JsonCall<T> call, String failureMessage, Object... args) {
+        // Both directions fail like RestTemplate's message converters, so callers see the same exception per mode
+        try {
+            return call.call();
+        } catch (IOException exception) {
+            throw new RestClientException(failureMessage.formatted(args), exception);
+        }
+    }
+
+    private static SimpleHttpResponse checkStatus(SimpleHttpResponse response) {
+        var status = HttpStatusCode.valueOf(response.getCode());
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, response.getReasonPhrase(), null,
+                    response.getBodyBytes(), UTF_8);
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(status, response.getReasonPhrase(), null,
+                    response.getBodyBytes(), UTF_8);
+        }
+
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface JsonCall<T> {
+
+        T call() throws IOException;
+    }
+}
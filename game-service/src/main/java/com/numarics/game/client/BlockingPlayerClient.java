@@ -0,0 +1,109 @@
+package com.numarics.game.client;
+
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.client.dto.PlayersDetailsDto;
+import com.numarics.game.client.dto.UpdatePlayerGameRequestDto;
+import com.numarics.game.client.dto.UpdatePlayersGameRequestDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+@Component
+@ConditionalOnProperty(name = "player-service.client.mode", havingValue = "blocking", matchIfMissing = true)
+public class BlockingPlayerClient extends AbstractPlayerClient {
+
+    private final RestTemplate restTemplate;
+
+    public BlockingPlayerClient(AppProperties appProperties,
+                                RestTemplate restTemplate,
+                                MeterRegistry meterRegistry,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                BulkheadRegistry bulkheadRegistry,
+                                IdempotentCallPolicy idempotentCallPolicy) {
+        super(appProperties, meterRegistry, circuitBreakerRegistry, bulkheadRegistry, idempotentCallPolicy);
+        this.restTemplate = restTemplate;
+    }
+
+    @Override
+    public CompletableFuture<Void> registerPlayer(Long gameId) {
+        return guarded("registerPlayer", () -> {
+            URI requestUrl = buildRequestUri(REGISTER);
+            var dto = newPlayer(gameId);
+            restTemplate.postForObject(requestUrl, dto, Object.class);
+
+            return completedFuture(null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> registerPlayers(List<Long> gameIds) {
+        return guarded("registerPlayers", () -> {
+            URI requestUrl = buildRequestUri(REGISTER, BATCH);
+            restTemplate.postForObject(requestUrl, newPlayers(gameIds), Object.class);
+
+            return completedFuture(null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerDetailsDto> updatePlayerGame(Long playerId, Long gameId) {
+        return guarded("updatePlayerGame", () -> {
+            URI requestUrl = buildRequestUri(playerId.toString());
+            var dto = new UpdatePlayerGameRequestDto(gameId);
+
+            return completedFuture(restTemplate.patchForObject(requestUrl, dto, PlayerDetailsDto.class));
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<PlayerDetailsDto>> updatePlayersGame(List<PlayerGameDto> playerGames) {
+        return guarded("updatePlayersGame", () -> {
+            URI requestUrl = buildRequestUri(BATCH);
+            var dto = new UpdatePlayersGameRequestDto(playerGames);
+            var response = restTemplate.patchForObject(requestUrl, dto, PlayersDetailsDto.class);
+
+            return completedFuture(response.players());
+        });
+    }
+
+    @Override
+    public CompletableFuture<GameSearchResponseDto> getGamesByPlayerName(String playerName) {
+        return idempotent("getGamesByPlayerName", () -> {
+            URI requestUrl = buildRequestUri(playerName, GAMES);
+
+            return completedFuture(restTemplate.getForObject(requestUrl, GameSearchResponseDto.class));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeGame(Long gameId) {
+        return guarded("removeGame", () -> {
+            URI requestUrl = buildRequestUri(GAMES, gameId.toString());
+            restTemplate.put(requestUrl, null);
+
+            return completedFuture(null);
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerSnapshotDto> getPlayerSnapshot(Long afterId, int limit) {
+        return guarded("getPlayerSnapshot", () -> {
+            URI requestUrl = buildSnapshotUri(afterId, limit);
+
+            return completedFuture(restTemplate.getForObject(requestUrl, PlayerSnapshotDto.class));
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.numarics.game.client;
+
+import com.numarics.game.configuration.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+@Component
+public class IdempotentCallPolicy {
+
+    public static final String RETRIES_METRIC = "player.client.retries";
+    public static final String HEDGES_METRIC = "player.client.hedges";
+    public static final String RETRY_BUDGET_METRIC = "player.client.retry.budget";
+    public static final double HEDGE_PERCENTILE = 0.95;
+
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final RetryBudget retryBudget;
+
+    public IdempotentCallPolicy(AppProperties appProperties,
+                                MeterRegistry meterRegistry,
+                                @Qualifier(APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        this.appProperties = appProperties;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        // One budget for all operations, so retries stay a bounded share of traffic even when everything fails
+        this.retryBudget = new RetryBudget(appProperties.getPlayerServiceRetryBudgetRatio(),
+                appProperties.getPlayerServiceRetryBudgetMinPerSecond(),
+                appProperties.getPlayerServiceRetryBudgetMaxTokens());
+        Gauge.builder(RETRY_BUDGET_METRIC, retryBudget, RetryBudget::available)
+                .description("Retries and hedges player-service calls can currently spend")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> execute(String operation, Supplier<CompletableFuture<T>> attempt) {
+        retryBudget.deposit();
+
+        return attempt(operation, attempt, 1);
+    }
+
+    private <T> CompletableFuture<T> attempt(String operation, Supplier<CompletableFuture<T>> attempt, int number) {
+        CompletableFuture<T> result;
+        try {
+            result = hedged(operation, attempt);
+        } catch (RuntimeException exception) {
+            // Failures that are not retried keep surfacing synchronously, like they do for non-idempotent calls
+            if (!shouldRetry(operation, exception, number)) {
+                throw exception;
+            }
+            return retry(operation, attempt, number);
+        }
+
+        return result
+                .handle((value, failure) -> {
+                    if (failure == null) {
+                        return CompletableFuture.completedFuture(value);
+                    }
+                    var cause = unwrap(failure);
+                    return shouldRetry(operation, cause, number)
+                            ? retry(operation, attempt, number)
+                            : CompletableFuture.<T>failedFuture(cause);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> retry(String operation, Supplier<CompletableFuture<T>> attempt, int number) {
+        var delay = backoff(number);
+
+        return CompletableFuture
+                .supplyAsync(() -> attempt(operation, attempt, number + 1),
+                        delayedExecutor(delay.toMillis(), MILLISECONDS, executor))
+                .thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> hedged(String operation, Supplier<CompletableFuture<T>> attempt) {
+        var primary = attempt.get();
+        // A blocking attempt has already finished by now, so only the async client is ever hedged
+        if (!appProperties.isPlayerServiceHedgeEnabled() || primary.isDone()) {
+            return primary;
+        }
+
+        var result = new CompletableFuture<T>();
+        var pending = new AtomicInteger(1);
+        BiConsumer<T, Throwable> firstSuccess = (value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(failure));
+            }
+        };
+        primary.whenComplete(firstSuccess);
+        // Whichever attempt loses is cancelled, so it stops holding a connection and a bulkhead permit
+        result.thenRun(() -> primary.cancel(true));
+
+        var delay = hedgeDelay(operation);
+        delayedExecutor(delay.toNanos(), NANOSECONDS, executor).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!retryBudget.tryWithdraw()) {
+                count(HEDGES_METRIC, operation, "budget_exhausted");
+                return;
+            }
+            count(HEDGES_METRIC, operation, "sent");
+            pending.incrementAndGet();
+            try {
+                var hedge = attempt.get();
+                hedge.whenComplete(firstSuccess);
+                result.thenRun(() -> hedge.cancel(true));
+            } catch (RuntimeException exception) {
+                firstSuccess.accept(null, exception);
+            }
+        });
+
+        return result;
+    }
+
+    private boolean shouldRetry(String operation, Throwable failure, int number) {
+        // Only transport errors and 5xx answers are worth another attempt, rejections and 4xx fail straight away
+        if (number >= appProperties.getPlayerServiceRetryMaxAttempts()
+                || !(failure instanceof HttpServerErrorException || failure instanceof ResourceAccessException)) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            count(RETRIES_METRIC, operation, "budget_exhausted");
+            return false;
+        }
+        count(RETRIES_METRIC, operation, "scheduled");
+
+        return true;
+    }
+
+    private Duration backoff(int number) {
+        // Full jitter, a random delay up to the exponential cap, so retries of concurrent callers spread out
+        var cap = appProperties.getPlayerServiceRetryInitialBackoff()
+                .multipliedBy(1L << Math.min(number - 1, MAX_BACKOFF_DOUBLINGS));
+        var maxBackoff = appProperties.getPlayerServiceRetryMaxBackoff();
+        long capMillis = (cap.compareTo(maxBackoff) > 0 ? maxBackoff : cap).toMillis();
+
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMillis + 1));
+    }
+
+    private Duration hedgeDelay(String operation) {
+        var minDelay = appProperties.getPlayerServiceHedgeMinDelay();
+        var timer = meterRegistry.find(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", operation, "outcome", Outcome.SUCCESS.name())
+                .timer();
+        if (timer == null) {
+            return minDelay;
+        }
+
+        return Arrays.stream(timer.takeSnapshot().percentileValues())
+                .filter(percentile -> percentile.percentile() == HEDGE_PERCENTILE)
+                .map(percentile -> Duration.ofNanos((long) percentile.value(NANOSECONDS)))
+                .filter(percentile -> percentile.compareTo(minDelay) > 0)
+                .findFirst()
+                .orElse(minDelay);
+    }
+
+    private void count(String name, String operation, String outcome) {
+        Counter.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException ? failure.getCause() : failure;
+    }
+}
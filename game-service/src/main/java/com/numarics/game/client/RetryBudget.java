@@ -0,0 +1,58 @@
+package com.numarics.game.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class RetryBudget {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefill;
+
+    public RetryBudget(double ratio, double minPerSecond, double maxTokens) {
+        this(ratio, minPerSecond, maxTokens, System::nanoTime);
+    }
+
+    RetryBudget(double ratio, double minPerSecond, double maxTokens, LongSupplier nanoTime) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxTokens = maxTokens;
+        this.nanoTime = nanoTime;
+        this.tokens = maxTokens;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    public synchronized void deposit() {
+        refill();
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+
+        return true;
+    }
+
+    public synchronized double available() {
+        refill();
+
+        return tokens;
+    }
+
+    private void refill() {
+        // The per-second floor keeps a trickle of retries possible when traffic is too low to fund them
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefill) / NANOS_PER_SECOND * minPerSecond);
+        lastRefill = now;
+    }
+}
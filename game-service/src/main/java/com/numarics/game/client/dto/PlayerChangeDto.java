@@ -0,0 +1,10 @@
+package com.numarics.game.client.dto;
+
+public record PlayerChangeDto(long sequence, Type type, Long playerId, String name, Long gameId) {
+
+    public enum Type {
+        PLAYER_CHANGED,
+        PLAYER_DELETED,
+        GAME_REMOVED
+    }
+}
@@ -0,0 +1,4 @@
+package com.numarics.game.client.dto;
+
+public record PlayerDetailsDto(Long id, String name, Long gameId) {
+}
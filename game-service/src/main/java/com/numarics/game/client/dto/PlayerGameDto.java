@@ -0,0 +1,4 @@
+package com.numarics.game.client.dto;
+
+public record PlayerGameDto(Long id, Long gameId) {
+}
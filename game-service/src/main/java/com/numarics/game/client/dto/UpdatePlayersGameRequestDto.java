@@ -0,0 +1,6 @@
+package com.numarics.game.client.dto;
+
+import java.util.List;
+
+public record UpdatePlayersGameRequestDto(List<PlayerGameDto> players) {
+}
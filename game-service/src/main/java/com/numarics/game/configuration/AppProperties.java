@@ -4,6 +4,9 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 @Configuration
 @Getter
 public class AppProperties {
@@ -16,4 +19,121 @@ public class AppProperties {
 
     @Value("${player-service.entryPoint}")
     private String playerServiceEntryPoint;
+
+    @Value("${player-service.client.maxConnections:200}")
+    private int playerServiceMaxConnections;
+
+    @Value("${player-service.client.maxConnectionsPerRoute:50}")
+    private int playerServiceMaxConnectionsPerRoute;
+
+    @Value("${player-service.client.connectTimeout:2s}")
+    private Duration playerServiceConnectTimeout;
+
+    @Value("${player-service.client.responseTimeout:5s}")
+    private Duration playerServiceResponseTimeout;
+
+    @Value("${player-service.client.connectionRequestTimeout:1s}")
+    private Duration playerServiceConnectionRequestTimeout;
+
+    @Value("${player-service.client.keepAlive:30s}")
+    private Duration playerServiceKeepAlive;
+
+    @Value("${player-service.client.idleEviction:1m}")
+    private Duration playerServiceIdleEviction;
+
+    @Value("${player-service.client.circuitBreaker.failureRateThreshold:50}")
+    private float playerServiceFailureRateThreshold;
+
+    @Value("${player-service.client.circuitBreaker.slowCallDurationThreshold:2s}")
+    private Duration playerServiceSlowCallDurationThreshold;
+
+    @Value("${player-service.client.circuitBreaker.slowCallRateThreshold:80}")
+    private float playerServiceSlowCallRateThreshold;
+
+    @Value("${player-service.client.circuitBreaker.slidingWindowSize:20}")
+    private int playerServiceSlidingWindowSize;
+
+    @Value("${player-service.client.circuitBreaker.minimumNumberOfCalls:10}")
+    private int playerServiceMinimumNumberOfCalls;
+
+    @Value("${player-service.client.circuitBreaker.waitDurationInOpenState:10s}")
+    private Duration playerServiceWaitDurationInOpenState;
+
+    @Value("${player-service.client.circuitBreaker.permittedCallsInHalfOpenState:3}")
+    private int playerServicePermittedCallsInHalfOpenState;
+
+    @Value("${player-service.client.bulkhead.maxConcurrentCalls:25}")
+    private int playerServiceMaxConcurrentCalls;
+
+    @Value("${player-service.client.retry.maxAttempts:3}")
+    private int playerServiceRetryMaxAttempts;
+
+    @Value("${player-service.client.retry.initialBackoff:50ms}")
+    private Duration playerServiceRetryInitialBackoff;
+
+    @Value("${player-service.client.retry.maxBackoff:1s}")
+    private Duration playerServiceRetryMaxBackoff;
+
+    @Value("${player-service.client.retry.budget.ratio:0.1}")
+    private double playerServiceRetryBudgetRatio;
+
+    @Value("${player-service.client.retry.budget.minPerSecond:5}")
+    private double playerServiceRetryBudgetMinPerSecond;
+
+    @Value("${player-service.client.retry.budget.maxTokens:20}")
+    private double playerServiceRetryBudgetMaxTokens;
+
+    @Value("${player-service.client.hedge.enabled:false}")
+    private boolean playerServiceHedgeEnabled;
+
+    @Value("${player-service.client.hedge.minDelay:10ms}")
+    private Duration playerServiceHedgeMinDelay;
+
+    @Value("${player-service.changes.file:${java.io.tmpdir}/game-tracker/player-changes.ndjson}")
+    private Path playerServiceChangesFile;
+
+    @Value("${game.search.defaultPageSize:50}")
+    private int searchDefaultPageSize;
+
+    @Value("${game.search.maxPageSize:500}")
+    private int searchMaxPageSize;
+
+    @Value("${game.search.streamFetchSize:500}")
+    private int searchStreamFetchSize;
+
+    @Value("${game.search.streamTimeout:5m}")
+    private Duration searchStreamTimeout;
+
+    @Value("${game.details.settledMaxAge:5m}")
+    private Duration settledGameMaxAge;
+
+    @Value("${game.cache.games.maximumSize:10000}")
+    private long gamesCacheMaximumSize;
+
+    @Value("${game.cache.games.expireAfterWrite:10m}")
+    private Duration gamesCacheExpireAfterWrite;
+
+    @Value("${game.cache.playerGames.maximumSize:10000}")
+    private long playerGamesCacheMaximumSize;
+
+    @Value("${game.cache.playerGames.expireAfterWrite:30s}")
+    private Duration playerGamesCacheExpireAfterWrite;
+
+    @Value("${game.outbox.batchSize:100}")
+    private int outboxBatchSize;
+
+    @Value("${game.outbox.initialBackoff:1s}")
+    private Duration outboxInitialBackoff;
+
+    @Value("${game.outbox.maxBackoff:5m}")
+    private Duration outboxMaxBackoff;
+
+    @Value("${game.outbox.maxAttempts:15}")
+    private int outboxMaxAttempts;
+
+    @Value("${game.playerReplica.enabled:true}")
+    private boolean playerReplicaEnabled;
+
+    @Value("${game.playerReplica.snapshotPageSize:10000}")
+    private int playerReplicaSnapshotPageSize;
 }
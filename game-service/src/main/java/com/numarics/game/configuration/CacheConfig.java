@@ -0,0 +1,46 @@
+package com.numarics.game.configuration;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GAMES_CACHE = "games";
+    public static final String PLAYER_GAMES_CACHE = "playerGames";
+
+    @Bean
+    public CacheManager cacheManager(AppProperties appProperties) {
+        var cacheManager = new CaffeineCacheManager();
+        // Stats feed the cache.gets/cache.evictions meters bound by actuator
+        cacheManager.registerCustomCache(GAMES_CACHE, Caffeine.newBuilder()
+                .maximumSize(appProperties.getGamesCacheMaximumSize())
+                .expireAfterWrite(appProperties.getGamesCacheExpireAfterWrite())
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public AsyncCache<String, GameSearchResponseDto> playerGamesCache(AppProperties appProperties,
+                                                                      MeterRegistry meterRegistry) {
+        // Kept out of the Spring cache abstraction since lookups are CompletableFuture based
+        AsyncCache<String, GameSearchResponseDto> cache = Caffeine.newBuilder()
+                .maximumSize(appProperties.getPlayerGamesCacheMaximumSize())
+                .expireAfterWrite(appProperties.getPlayerGamesCacheExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, PLAYER_GAMES_CACHE);
+    }
+}
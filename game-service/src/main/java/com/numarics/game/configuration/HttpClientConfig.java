@@ -0,0 +1,142 @@
+package com.numarics.game.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class HttpClientConfig {
+
+    private static final String POOL_METRIC_PREFIX = "httpcomponents.httpclient.pool";
+    private static final String CLIENT_TAG = "httpclient";
+    private static final String CLIENT_NAME = "player-service";
+    private static final String ASYNC_CLIENT_NAME = "player-service-async";
+
+    @Bean
+    public PoolingHttpClientConnectionManager playerServiceConnectionManager(AppProperties appProperties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(appProperties.getPlayerServiceMaxConnections())
+                .setMaxConnPerRoute(appProperties.getPlayerServiceMaxConnectionsPerRoute())
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient playerServiceHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                       AppProperties appProperties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(appProperties))
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(appProperties.getPlayerServiceIdleEviction().toMillis()))
+                // Retries are left to IdempotentCallPolicy, so the retry budget bounds every one of them
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public MeterBinder playerServiceConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return connectionPoolMetrics(CLIENT_NAME, connectionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "player-service.client.mode", havingValue = "async")
+    public PoolingAsyncClientConnectionManager playerServiceAsyncConnectionManager(AppProperties appProperties) {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(appProperties.getPlayerServiceMaxConnections())
+                .setMaxConnPerRoute(appProperties.getPlayerServiceMaxConnectionsPerRoute())
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = "player-service.client.mode", havingValue = "async")
+    public CloseableHttpAsyncClient playerServiceHttpAsyncClient(PoolingAsyncClientConnectionManager connectionManager,
+                                                                 AppProperties appProperties) {
+        return HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(appProperties))
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(appProperties.getPlayerServiceIdleEviction().toMillis()))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "player-service.client.mode", havingValue = "async")
+    public MeterBinder playerServiceAsyncConnectionPoolMetrics(PoolingAsyncClientConnectionManager connectionManager) {
+        return connectionPoolMetrics(ASYNC_CLIENT_NAME, connectionManager);
+    }
+
+    private static RequestConfig requestConfig(AppProperties appProperties) {
+        return RequestConfig.custom()
+                .setConnectTimeout(toTimeout(appProperties.getPlayerServiceConnectTimeout().toMillis()))
+                .setResponseTimeout(toTimeout(appProperties.getPlayerServiceResponseTimeout().toMillis()))
+                .setConnectionRequestTimeout(
+                        toTimeout(appProperties.getPlayerServiceConnectionRequestTimeout().toMillis()))
+                // Used by the keep-alive strategy when player-service does not send a Keep-Alive header
+                .setConnectionKeepAlive(toTimeValue(appProperties.getPlayerServiceKeepAlive().toMillis()))
+                .build();
+    }
+
+    private static MeterBinder connectionPoolMetrics(String clientName, ConnPoolControl<HttpRoute> pool) {
+        return registry -> {
+            poolGauge("total.max", "The configured maximum number of allowed persistent connections for all routes",
+                    clientName, pool, PoolStats::getMax)
+                    .register(registry);
+            poolGauge("total.connections", "The number of persistent and leased connections for all routes",
+                    clientName, pool, PoolStats::getLeased)
+                    .tag("state", "leased")
+                    .register(registry);
+            poolGauge("total.connections", "The number of persistent and leased connections for all routes",
+                    clientName, pool, PoolStats::getAvailable)
+                    .tag("state", "available")
+                    .register(registry);
+            poolGauge("total.pending", "The number of connection requests being blocked awaiting a free connection",
+                    clientName, pool, PoolStats::getPending)
+                    .register(registry);
+            Gauge.builder(POOL_METRIC_PREFIX + ".route.max.default", pool, ConnPoolControl::getDefaultMaxPerRoute)
+                    .description("The configured default maximum number of allowed persistent connections per route")
+                    .tag(CLIENT_TAG, clientName)
+                    .register(registry);
+        };
+    }
+
+    private static Gauge.Builder<ConnPoolControl<HttpRoute>> poolGauge(String name, String description,
+                                                                      String clientName,
+                                                                      ConnPoolControl<HttpRoute> pool,
+                                                                      ToDoubleFunction<PoolStats> stat) {
+        return Gauge.builder(POOL_METRIC_PREFIX + "." + name, pool, it -> stat.applyAsDouble(it.getTotalStats()))
+                .description(description)
+                .tag(CLIENT_TAG, clientName);
+    }
+
+    private static Timeout toTimeout(long millis) {
+        return Timeout.ofMilliseconds(millis);
+    }
+
+    private static TimeValue toTimeValue(long millis) {
+        return TimeValue.ofMilliseconds(millis);
+    }
+}
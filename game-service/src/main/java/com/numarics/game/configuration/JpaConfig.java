@@ -1,9 +1,29 @@
 package com.numarics.game.configuration;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statisticsCustomizer() {
+        // Feeds the hibernate.* meters, on unless spring.jpa.properties.hibernate.generate_statistics turns it off
+        return properties -> properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Bean
+    public TransactionOperations readOnlyTransactionOperations(PlatformTransactionManager transactionManager) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate;
+    }
 }
@@ -0,0 +1,81 @@
+package com.numarics.game.configuration;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+import static io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType.COUNT_BASED;
+
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+    public static final String TRANSITIONS_METRIC = "player.client.circuitbreaker.transitions";
+
+    @Bean
+    public CircuitBreakerRegistry playerServiceCircuitBreakerRegistry(AppProperties appProperties) {
+        var config = CircuitBreakerConfig.custom()
+                .slidingWindow(appProperties.getPlayerServiceSlidingWindowSize(),
+                        appProperties.getPlayerServiceMinimumNumberOfCalls(), COUNT_BASED)
+                .failureRateThreshold(appProperties.getPlayerServiceFailureRateThreshold())
+                .slowCallDurationThreshold(appProperties.getPlayerServiceSlowCallDurationThreshold())
+                .slowCallRateThreshold(appProperties.getPlayerServiceSlowCallRateThreshold())
+                .waitDurationInOpenState(appProperties.getPlayerServiceWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(appProperties.getPlayerServicePermittedCallsInHalfOpenState())
+                // A 4xx answer means player-service is up, and a full bulkhead is a local limit, not a remote fault
+                .ignoreExceptions(HttpClientErrorException.class, BulkheadFullException.class)
+                .build();
+
+        var registry = CircuitBreakerRegistry.of(config);
+        registry.getEventPublisher().onEntryAdded(added -> added.getAddedEntry().getEventPublisher()
+                .onStateTransition(event -> log.warn("Circuit breaker {} moved {}", event.getCircuitBreakerName(),
+                        event.getStateTransition())));
+
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry playerServiceBulkheadRegistry(AppProperties appProperties) {
+        // No waiting for a permit, a saturated operation is rejected straight away
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(appProperties.getPlayerServiceMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Bean
+    public MeterBinder playerServiceCircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder playerServiceCircuitBreakerTransitionMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        // The state gauge alone misses short-lived states between scrapes, so every transition is also counted
+        return meterRegistry -> circuitBreakerRegistry.getEventPublisher().onEntryAdded(added -> added.getAddedEntry()
+                .getEventPublisher()
+                .onStateTransition(event -> Counter.builder(TRANSITIONS_METRIC)
+                        .description("Player-service circuit breaker state transitions")
+                        .tag("name", event.getCircuitBreakerName())
+                        .tag("from", event.getStateTransition().getFromState().name())
+                        .tag("to", event.getStateTransition().getToState().name())
+                        .register(meterRegistry)
+                        .increment()));
+    }
+
+    @Bean
+    public MeterBinder playerServiceBulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.numarics.game.configuration;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+@RequiredArgsConstructor
+public class StreamTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // Streamed bodies have written their headers by now, so only NDJSON responses get the longer timeout
+        var contentType = Optional.ofNullable(request.getNativeResponse(HttpServletResponse.class))
+                .map(HttpServletResponse::getContentType)
+                .map(MediaType::parseMediaType);
+        if (contentType.filter(MediaType.APPLICATION_NDJSON::isCompatibleWith).isPresent()
+                && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
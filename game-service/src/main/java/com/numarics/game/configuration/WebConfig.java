@@ -2,24 +2,26 @@ package com.numarics.game.configuration;
 
 import com.numarics.game.converter.GameToGameDetailsDtoConverter;
 import com.numarics.game.converter.GameToStartGameResponseDtoConverter;
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AppProperties appProperties;
+
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(CloseableHttpClient playerServiceHttpClient) {
         var restTemplate = new RestTemplate();
-        var httpClient = HttpClientBuilder.create().build();
-        var requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-        requestFactory.setHttpClient(httpClient);
+        var requestFactory = new HttpComponentsClientHttpRequestFactory(playerServiceHttpClient);
         restTemplate.setRequestFactory(requestFactory);
 
         return restTemplate;
@@ -30,4 +32,9 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addConverter(new GameToGameDetailsDtoConverter());
         registry.addConverter(new GameToStartGameResponseDtoConverter());
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamTimeoutInterceptor(appProperties.getSearchStreamTimeout()));
+    }
 }
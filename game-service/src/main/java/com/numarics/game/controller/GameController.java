@@ -1,41 +1,84 @@
 package com.numarics.game.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.numarics.game.configuration.AppProperties;
 import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.dto.StartGameRequestDto;
 import com.numarics.game.model.dto.StartGameResponseDto;
+import com.numarics.game.model.dto.StartGamesRequestDto;
+import com.numarics.game.model.dto.StartGamesResponseDto;
 import com.numarics.game.model.dto.UpdateGameStatusDto;
 import com.numarics.game.model.entity.Game;
 import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.model.filter.SearchCursor;
 import com.numarics.game.service.GameService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.function.ThrowingConsumer;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Optional.ofNullable;
 
 @RestController
 @RequestMapping("game")
 @RequiredArgsConstructor
 public class GameController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final GameService gameService;
     private final ConversionService conversionService;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
 
     @PostMapping("play")
     @ResponseStatus(HttpStatus.CREATED)
-    public StartGameResponseDto startGame(@Valid @RequestBody StartGameRequestDto dto) {
-        var game = gameService.startGame(dto);
+    public CompletableFuture<StartGameResponseDto> startGame(@Valid @RequestBody StartGameRequestDto dto) {
+        return gameService.startGame(dto)
+                .thenApply(game -> conversionService.convert(game, StartGameResponseDto.class));
+    }
 
-        return conversionService.convert(game, StartGameResponseDto.class);
+    @PostMapping("play/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<StartGamesResponseDto> startGames(@Valid @RequestBody StartGamesRequestDto dto) {
+        return gameService.startGames(dto.games())
+                .thenApply(games -> new StartGamesResponseDto(games.stream()
+                        .map(game -> conversionService.convert(game, StartGameResponseDto.class))
+                        .toList()));
     }
 
     @GetMapping("{id}")
-    public GameDetailsDto getDetails(@PathVariable Long id) {
-        var game = gameService.getById(id);
+    public ResponseEntity<GameDetailsDto> getDetails(@PathVariable Long id, WebRequest request) {
+        var game = gameService.getDetails(id);
+        var eTag = eTag(game);
+        var cacheControl = cacheControl(game.status());
 
-        return conversionService.convert(game, GameDetailsDto.class);
+        // Revalidation is answered from the id and timestamp alone, before the game is serialized
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(game);
     }
 
     @PutMapping("{id}/play")
@@ -53,17 +96,89 @@ public class GameController {
     }
 
     @GetMapping
-    public List<GameDetailsDto> search(@RequestParam(required = false) Game.Status status,
-                                       @RequestParam(required = false) String name,
-                                       @RequestParam(required = false) String playerName) {
+    public CompletableFuture<ResponseEntity<List<GameDetailsDto>>> search(
+            @RequestParam(required = false) Game.Status status,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) String nameContains,
+            @RequestParam(required = false) String playerName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         var filter = new GameSearchFilter()
                 .setStatus(status)
                 .setName(name)
-                .setPlayerName(playerName);
+                .setNamePrefix(namePrefix)
+                .setNameContains(nameContains)
+                .setPlayerName(playerName)
+                .setAfterId(SearchCursor.decode(cursor))
+                .setLimit(limit);
+
+        return gameService.search(filter)
+                .thenApply(this::toSearchResponse);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> streamSearch(
+            @RequestParam(required = false) Game.Status status,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) String nameContains,
+            @RequestParam(required = false) String playerName,
+            @RequestParam(required = false) String cursor) {
+        var filter = new GameSearchFilter()
+                .setStatus(status)
+                .setName(name)
+                .setNamePrefix(namePrefix)
+                .setNameContains(nameContains)
+                .setPlayerName(playerName)
+                .setAfterId(SearchCursor.decode(cursor));
+
+        // Flushing is left to the buffer so rows go out in chunks rather than one write per game
+        var writer = objectMapper.writerFor(GameDetailsDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // The body only starts once player games are known, so a failed lookup still gets its own status
+        return gameService.streamSearch(filter)
+                .thenApply(games -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(outputStream -> {
+                            var output = new BufferedOutputStream(outputStream);
+                            // Write failures, such as the client going away, end the stream wrapped as unchecked
+                            games.forEach(ThrowingConsumer.of(game -> {
+                                writer.writeValue(output, game);
+                                output.write('\n');
+                            }));
+                            output.flush();
+                        }));
+    }
+
+    private static String eTag(GameDetailsDto game) {
+        // Milliseconds survive the database round trip unchanged, the statuses tell apart updates within one of them
+        long updatedAt = ofNullable(game.updatedAt())
+                .map(Instant::toEpochMilli)
+                .orElse(0L);
+
+        return "\"%d-%x-%d-%d\"".formatted(game.id(), updatedAt, game.status().ordinal(),
+                game.playerStatus().ordinal());
+    }
+
+    private CacheControl cacheControl(Game.Status status) {
+        // Finished and dropped games rarely change, so shared caches may keep them for a while
+        return status == Game.Status.NEW
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(appProperties.getSettledGameMaxAge()).cachePublic();
+    }
+
+    private ResponseEntity<List<GameDetailsDto>> toSearchResponse(Slice<GameDetailsDto> games) {
+        var response = ResponseEntity.ok();
+        if (games.hasNext()) {
+            var lastGame = games.getContent().get(games.getNumberOfElements() - 1);
+            response.header(NEXT_CURSOR_HEADER, SearchCursor.encode(lastGame.id()));
+        }
 
-        return gameService.search(filter).stream()
-                .map(game -> conversionService.convert(game, GameDetailsDto.class))
-                .toList();
+        return response.body(games.getContent());
     }
 
 }
@@ -1,5 +1,6 @@
 package com.numarics.game.model.dto;
 
+import com.numarics.game.model.entity.Game.PlayerStatus;
 import com.numarics.game.model.entity.Game.Status;
 
 import java.time.Instant;
@@ -7,6 +8,7 @@ import java.time.Instant;
 public record GameDetailsDto(Long id,
                              String name,
                              Status status,
+                             PlayerStatus playerStatus,
                              Instant createdAt,
                              Instant updatedAt) {
 }
@@ -7,6 +7,7 @@ import java.time.Instant;
 public record StartGameResponseDto(Long id,
                                    String name,
                                    Game.Status status,
+                                   Game.PlayerStatus playerStatus,
                                    Instant createdAt,
                                    Instant updatedAt) {
 }
@@ -0,0 +1,10 @@
+package com.numarics.game.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record StartGamesRequestDto(@NotEmpty List<@Valid @NotNull StartGameRequestDto> games) {
+}
@@ -0,0 +1,6 @@
+package com.numarics.game.model.dto;
+
+import java.util.List;
+
+public record StartGamesResponseDto(List<StartGameResponseDto> games) {
+}
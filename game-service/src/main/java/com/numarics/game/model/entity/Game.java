@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,6 +14,8 @@ import java.time.Instant;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "games")
 @Getter
 @Setter
@@ -25,8 +29,15 @@ public class Game {
         DROPPED
     }
 
+    public enum PlayerStatus {
+        PENDING,
+        LINKED,
+        FAILED
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @Column
@@ -36,6 +47,10 @@ public class Game {
     @Enumerated(EnumType.STRING)
     private Status status;
 
+    @Column(name = "player_status")
+    @Enumerated(EnumType.STRING)
+    private PlayerStatus playerStatus;
+
     @Column(name = "created_at", updatable = false)
     @CreatedDate
     private Instant createdAt;
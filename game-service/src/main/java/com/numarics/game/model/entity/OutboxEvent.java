@@ -0,0 +1,52 @@
+package com.numarics.game.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@Accessors(chain = true)
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+
+    public enum Type {
+        GAME_REMOVED,
+        LINK_PLAYER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+
+    @Column(name = "created_at", updatable = false)
+    @CreatedDate
+    private Instant createdAt;
+}
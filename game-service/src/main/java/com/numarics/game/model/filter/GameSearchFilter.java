@@ -11,6 +11,10 @@ import java.util.List;
 public final class GameSearchFilter {
     private Game.Status status;
     private String name;
+    private String namePrefix;
+    private String nameContains;
     private String playerName;
     private List<Long> gameIds;
+    private Long afterId;
+    private Integer limit;
 }
@@ -0,0 +1,39 @@
+package com.numarics.game.model.filter;
+
+import com.numarics.game.exception.BadRequestException;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Opaque keyset cursor handed to clients, wrapping the id of the last game on a page.
+ */
+public final class SearchCursor {
+
+    private static final String PREFIX = "id:";
+
+    private SearchCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(value);
+            }
+            return Long.valueOf(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package com.numarics.game.repository;
 
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.entity.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
 
+    // Selected straight into the DTO, no entity is hydrated or tracked by the persistence context
+    @Query("""
+            select new com.numarics.game.model.dto.GameDetailsDto(g.id, g.name, g.status, g.playerStatus,
+                    g.createdAt, g.updatedAt)
+            from Game g
+            where g.id = :id""")
+    Optional<GameDetailsDto> findDetailsById(Long id);
 }
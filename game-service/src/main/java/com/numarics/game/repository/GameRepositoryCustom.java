@@ -1,11 +1,14 @@
 package com.numarics.game.repository;
 
-import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.filter.GameSearchFilter;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface GameRepositoryCustom {
 
-    List<Game> search(GameSearchFilter filter);
+    Slice<GameDetailsDto> searchDetails(GameSearchFilter filter);
+
+    Stream<GameDetailsDto> streamDetails(GameSearchFilter filter);
 }
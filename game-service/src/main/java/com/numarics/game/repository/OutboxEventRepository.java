@@ -0,0 +1,15 @@
+package com.numarics.game.repository;
+
+import com.numarics.game.model.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByTypeAndParkedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxEvent.Type type,
+                                                                                         Instant now,
+                                                                                         Pageable pageable);
+}
@@ -1,18 +1,28 @@
 package com.numarics.game.repository.impl;
 
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.entity.Game;
 import com.numarics.game.model.filter.GameSearchFilter;
 import com.numarics.game.repository.GameRepositoryCustom;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -20,12 +30,66 @@ import static java.util.Optional.ofNullable;
 @RequiredArgsConstructor
 public class GameRepositoryCustomImpl implements GameRepositoryCustom {
 
+    public static final String SEARCH_METRIC = "game.repository.search";
+
     private final EntityManager entityManager;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Slice<GameDetailsDto> searchDetails(GameSearchFilter filter) {
+        return slice(filter, buildQuery(filter, GameDetailsDto.class, GameRepositoryCustomImpl::details));
+    }
 
     @Override
-    public List<Game> search(GameSearchFilter filter) {
+    public Stream<GameDetailsDto> streamDetails(GameSearchFilter filter) {
+        // Rows are read through a JDBC cursor as plain DTOs, so the persistence context stays empty
+        return entityManager.createQuery(buildQuery(filter, GameDetailsDto.class, GameRepositoryCustomImpl::details))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, appProperties.getSearchStreamFetchSize())
+                .getResultStream();
+    }
+
+    private <T> Slice<T> slice(GameSearchFilter filter, CriteriaQuery<T> query) {
+        return Timer.builder(SEARCH_METRIC)
+                .description("Game search queries")
+                .tag("filter", filterShape(filter))
+                .tag("page", filter.getAfterId() == null ? "first" : "next")
+                .register(meterRegistry)
+                .record(() -> {
+                    // One extra row tells whether another page follows without a separate count query
+                    int limit = filter.getLimit();
+                    var rows = entityManager.createQuery(query)
+                            .setMaxResults(limit + 1)
+                            .getResultList();
+                    boolean hasNext = rows.size() > limit;
+
+                    return new SliceImpl<>(hasNext ? rows.subList(0, limit) : rows, PageRequest.ofSize(limit),
+                            hasNext);
+                });
+    }
+
+    private static Selection<GameDetailsDto> details(CriteriaBuilder cb, Root<Game> root) {
+        // Constructor projection, only the mapped columns are read and no entity instances are created
+        return cb.construct(GameDetailsDto.class, root.get("id"), root.get("name"), root.get("status"),
+                root.get("playerStatus"), root.get("createdAt"), root.get("updatedAt"));
+    }
+
+    private static String filterShape(GameSearchFilter filter) {
+        // Mirrors buildQuery, an id list replaces the status and name predicates
+        if (!filter.getGameIds().isEmpty()) {
+            return "game_ids";
+        }
+        var predicates = new ArrayList<String>();
+        ofNullable(filter.getStatus()).ifPresent(status -> predicates.add("status"));
+        ofNullable(filter.getName()).ifPresent(name -> predicates.add("name"));
+
+        return predicates.isEmpty() ? "none" : String.join("_and_", predicates);
+    }
+
+    private <T> CriteriaQuery<T> buildQuery(GameSearchFilter filter, Class<T> resultType,
+                                            BiFunction<CriteriaBuilder, Root<Game>, Selection<? extends T>> selection) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Game> query = cb.createQuery(Game.class);
+        CriteriaQuery<T> query = cb.createQuery(resultType);
         Root<Game> root = query.from(Game.class);
 
         var predicates = new ArrayList<Predicate>();
@@ -37,12 +101,14 @@ public class GameRepositoryCustomImpl implements GameRepositoryCustom {
             ofNullable(filter.getName())
                     .ifPresent(name -> predicates.add(cb.equal(root.get("name"), name)));
         }
-        query.select(root);
+        ofNullable(filter.getAfterId())
+                .ifPresent(afterId -> predicates.add(cb.greaterThan(root.get("id"), afterId)));
+        query.select(selection.apply(cb, root))
+                .orderBy(cb.asc(root.get("id")));
         if (!predicates.isEmpty()) {
             query.where(predicates.toArray(new Predicate[]{}));
         }
 
-        return entityManager.createQuery(query)
-                .getResultList();
+        return query;
     }
 }
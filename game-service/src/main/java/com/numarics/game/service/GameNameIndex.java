@@ -0,0 +1,258 @@
+package com.numarics.game.service;
+
+import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.repository.GameRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongRBTreeSet;
+import it.unimi.dsi.fastutil.longs.LongSortedSet;
+import it.unimi.dsi.fastutil.longs.LongSortedSets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.numarics.common.transaction.TransactionHooks.afterCommit;
+
+@Slf4j
+@Component
+public class GameNameIndex implements SmartInitializingSingleton {
+
+    public static final String SIZE_METRIC = "game.name.index.size";
+    public static final int GRAM_LENGTH = 3;
+    // Prefixes covering more names than this scan all games in id order instead of merging one cursor per name
+    public static final int MAX_MERGED_NAMES = 256;
+
+    private final GameRepository gameRepository;
+    private final TransactionOperations readOnlyTransactionOperations;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Lower-cased names by game id, candidates from either index are verified against these
+    private final Long2ObjectOpenHashMap<String> names = new Long2ObjectOpenHashMap<>();
+    private final LongSortedSet ids = new LongRBTreeSet();
+    // Sorted names answer prefix lookups with a range scan, the ids of each name are kept in order for paging
+    private final TreeMap<String, LongSortedSet> idsByName = new TreeMap<>();
+    // Trigrams packed into a long, 16 bits per character, narrow substring lookups to one posting set
+    private final Long2ObjectOpenHashMap<LongSortedSet> idsByGram = new Long2ObjectOpenHashMap<>();
+
+    public GameNameIndex(GameRepository gameRepository,
+                         TransactionOperations readOnlyTransactionOperations,
+                         MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.readOnlyTransactionOperations = readOnlyTransactionOperations;
+        Gauge.builder(SIZE_METRIC, names, Long2ObjectOpenHashMap::size)
+                .description("Games in the in-memory name index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        var filter = new GameSearchFilter().setGameIds(new ArrayList<>());
+
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            ids.clear();
+            idsByName.clear();
+            idsByGram.clear();
+            readOnlyTransactionOperations.executeWithoutResult(status -> {
+                try (var games = gameRepository.streamDetails(filter)) {
+                    games.forEach(game -> index(game.id(), game.name()));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} game names in {} ms", names.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void add(Long id, String name) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                index(id, name);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        // A rolled back delete keeps the game searchable
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<Long> find(String prefix, String fragment, Long afterId, int limit) {
+        var namePrefix = normalize(prefix);
+        var nameFragment = normalize(fragment);
+        long after = afterId == null ? Long.MIN_VALUE : afterId;
+
+        lock.readLock().lock();
+        try {
+            // Fragments shorter than a trigram are rejected by GameServiceImpl, so one of the two indexes always applies
+            if (nameFragment != null) {
+                return matching(smallestPostings(nameFragment).iterator(after), namePrefix, nameFragment, limit);
+            }
+
+            var postings = idsByName.subMap(namePrefix, namePrefix + Character.MAX_VALUE).values();
+            // A broad prefix matches most games it passes, so the scan stops after about limit of them
+            if (coversMoreThan(postings, MAX_MERGED_NAMES)) {
+                return matching(ids.iterator(after), namePrefix, null, limit);
+            }
+
+            return merged(postings, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long id, String name) {
+        var normalized = normalize(name);
+        if (normalized == null) {
+            return;
+        }
+        unindex(id);
+        names.put(id.longValue(), normalized);
+        ids.add(id.longValue());
+        idsByName.computeIfAbsent(normalized, key -> new LongRBTreeSet()).add(id.longValue());
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            idsByGram.computeIfAbsent(gram(normalized, i), key -> new LongRBTreeSet()).add(id.longValue());
+        }
+    }
+
+    private void unindex(Long id) {
+        var name = names.remove(id.longValue());
+        if (name == null) {
+            return;
+        }
+        ids.remove(id.longValue());
+        removeFrom(idsByName.get(name), id, () -> idsByName.remove(name));
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            long gram = gram(name, i);
+            removeFrom(idsByGram.get(gram), id, () -> idsByGram.remove(gram));
+        }
+    }
+
+    private static void removeFrom(LongSortedSet ids, Long id, Runnable onEmpty) {
+        ids.remove(id.longValue());
+        if (ids.isEmpty()) {
+            onEmpty.run();
+        }
+    }
+
+    private List<Long> matching(LongIterator candidates, String prefix, String fragment, int limit) {
+        var matches = new LongArrayList();
+        while (matches.size() < limit && candidates.hasNext()) {
+            long id = candidates.nextLong();
+            // A trigram only narrows the candidates, the name itself decides
+            var name = names.get(id);
+            if ((prefix == null || name.startsWith(prefix)) && (fragment == null || name.contains(fragment))) {
+                matches.add(id);
+            }
+        }
+
+        return matches;
+    }
+
+    private static boolean coversMoreThan(Collection<LongSortedSet> postings, int count) {
+        // Counted through the iterator, the size of a sub map walks its whole range
+        var names = postings.iterator();
+        for (int i = 0; i < count && names.hasNext(); i++) {
+            names.next();
+        }
+
+        return names.hasNext();
+    }
+
+    private static List<Long> merged(Collection<LongSortedSet> postings, long after, int limit) {
+        // Names never share a game, so the lowest id pending in any of their postings is the next match
+        var cursors = new PriorityQueue<>(Comparator.comparingLong(Cursor::id));
+        for (var ids : postings) {
+            var cursor = new Cursor(ids.iterator(after));
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        var matches = new LongArrayList();
+        while (matches.size() < limit && !cursors.isEmpty()) {
+            var cursor = cursors.poll();
+            matches.add(cursor.id());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        return matches;
+    }
+
+    private LongSortedSet smallestPostings(String fragment) {
+        LongSortedSet smallest = LongSortedSets.EMPTY_SET;
+        for (int i = 0; i + GRAM_LENGTH <= fragment.length(); i++) {
+            var postings = idsByGram.get(gram(fragment, i));
+            if (postings == null) {
+                return LongSortedSets.EMPTY_SET;
+            }
+            if (i == 0 || postings.size() < smallest.size()) {
+                smallest = postings;
+            }
+        }
+
+        return smallest;
+    }
+
+    private static long gram(String name, int offset) {
+        return (long) name.charAt(offset) << 32 | (long) name.charAt(offset + 1) << 16 | name.charAt(offset + 2);
+    }
+
+    private static String normalize(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Cursor {
+
+        private final LongIterator ids;
+        private long id;
+
+        private Cursor(LongIterator ids) {
+            this.ids = ids;
+        }
+
+        private boolean advance() {
+            if (!ids.hasNext()) {
+                return false;
+            }
+            id = ids.nextLong();
+            return true;
+        }
+
+        private long id() {
+            return id;
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package com.numarics.game.service;
 
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.dto.StartGameRequestDto;
 import com.numarics.game.model.entity.Game;
 import com.numarics.game.model.filter.GameSearchFilter;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface GameService {
 
-    Game getById(Long id);
+    GameDetailsDto getDetails(Long id);
 
     Game updateGameStatus(Long id, Game.Status status);
 
     void deleteGame(Long id);
 
-    List<Game> search(GameSearchFilter filter);
+    CompletableFuture<Slice<GameDetailsDto>> search(GameSearchFilter filter);
 
-    Game startGame(StartGameRequestDto dto);
+    CompletableFuture<GameStream> streamSearch(GameSearchFilter filter);
+
+    CompletableFuture<Game> startGame(StartGameRequestDto dto);
+
+    CompletableFuture<List<Game>> startGames(List<StartGameRequestDto> dtos);
 }
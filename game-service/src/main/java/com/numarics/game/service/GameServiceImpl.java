@@ -1,36 +1,61 @@
 package com.numarics.game.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.numarics.game.client.PlayerClient;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.exception.BadRequestException;
 import com.numarics.game.exception.ResourceNotFoundException;
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.dto.GameSearchResponseDto;
 import com.numarics.game.model.dto.StartGameRequestDto;
 import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
 import com.numarics.game.model.filter.GameSearchFilter;
 import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static com.numarics.game.configuration.CacheConfig.GAMES_CACHE;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 @Service
 @RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
     private final GameRepository gameRepository;
+    private final OutboxEventRepository outboxEventRepository;
     private final PlayerClient playerClient;
+    private final AppProperties appProperties;
+    private final TransactionOperations readOnlyTransactionOperations;
+    private final AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+    private final GameNameIndex gameNameIndex;
+    private final PlayerGameReplica playerGameReplica;
+    private final GameStartSaga gameStartSaga;
 
     @Override
-    public Game getById(Long id) {
-        return gameRepository.findById(id)
+    // Loaded under the entry's lock, an eviction racing the load waits for it instead of leaving its stale value
+    @Cacheable(cacheNames = GAMES_CACHE, key = "#id", sync = true)
+    public GameDetailsDto getDetails(Long id) {
+        return gameRepository.findDetailsById(id)
                 .orElseThrow(ResourceNotFoundException::new);
     }
 
     @Override
+    @CacheEvict(cacheNames = GAMES_CACHE, key = "#id")
     public Game updateGameStatus(Long id, Game.Status status) {
         return gameRepository.findById(id)
                 .map(game -> game.setStatus(status))
@@ -39,41 +64,140 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = GAMES_CACHE, key = "#id")
     public void deleteGame(Long id) {
         var game = gameRepository.findById(id)
                 .orElseThrow(ResourceNotFoundException::new);
 
         gameRepository.delete(game);
-
-        playerClient.removeGame(id);
+        gameNameIndex.remove(id);
+        // Player-service cleanup is relayed by OutboxDispatcher once this transaction commits
+        outboxEventRepository.save(new OutboxEvent()
+                .setType(OutboxEvent.Type.GAME_REMOVED)
+                .setAggregateId(id)
+                .setNextAttemptAt(Instant.now()));
     }
 
     @Override
-    public List<Game> search(GameSearchFilter filter) {
-        filter.setGameIds(getGameIdsByPlayerName(filter.getPlayerName()));
+    public CompletableFuture<Slice<GameDetailsDto>> search(GameSearchFilter filter) {
+        filter.setLimit(resolvePageSize(filter.getLimit()));
+        if (filter.getNamePrefix() != null || filter.getNameContains() != null) {
+            return completedFuture(searchByNamePattern(filter));
+        }
+
+        return getGameIdsByPlayerName(filter.getPlayerName())
+                .thenApply(gameIds -> hasNoGames(filter, gameIds)
+                        ? new SliceImpl<>(List.of())
+                        : readOnlyTransactionOperations.execute(status ->
+                                gameRepository.searchDetails(filter.setGameIds(gameIds))));
+    }
 
-        return gameRepository.search(filter);
+    @Override
+    public CompletableFuture<GameStream> streamSearch(GameSearchFilter filter) {
+        if (filter.getNamePrefix() != null || filter.getNameContains() != null) {
+            throw new BadRequestException("Name patterns cannot be streamed, page through them instead");
+        }
+
+        // Player games are resolved before streaming starts, so no connection is held during the remote call
+        return getGameIdsByPlayerName(filter.getPlayerName())
+                .thenApply(gameIds -> hasNoGames(filter, gameIds)
+                        ? consumer -> { }
+                        : consumer -> readOnlyTransactionOperations.executeWithoutResult(status -> {
+                            try (var games = gameRepository.streamDetails(filter.setGameIds(gameIds))) {
+                                games.forEach(consumer);
+                            }
+                        }));
     }
 
     @Override
     @Transactional
-    public Game startGame(StartGameRequestDto dto) {
+    public CompletableFuture<Game> startGame(StartGameRequestDto dto) {
         var newGame = new Game()
                 .setName(dto.name())
-                .setStatus(Game.Status.NEW);
+                .setStatus(Game.Status.NEW)
+                .setPlayerStatus(Game.PlayerStatus.PENDING);
 
+        // Player-service is only called once this transaction commits, so no connection is held meanwhile
         var game = gameRepository.save(newGame);
+        gameNameIndex.add(game.getId(), game.getName());
+        gameStartSaga.start(game, dto.playerId());
+
+        return completedFuture(game);
+    }
+
+    @Override
+    @Transactional
+    public CompletableFuture<List<Game>> startGames(List<StartGameRequestDto> dtos) {
+        // Sequence ids are assigned on save, the inserts themselves go out in JDBC batches on flush
+        var games = gameRepository.saveAll(dtos.stream()
+                .map(dto -> new Game()
+                        .setName(dto.name())
+                        .setStatus(Game.Status.NEW)
+                        .setPlayerStatus(Game.PlayerStatus.PENDING))
+                .toList());
+        games.forEach(game -> gameNameIndex.add(game.getId(), game.getName()));
+
+        // Linked once the games are committed, OutboxDispatcher sends the links of a batch in one call per kind
+        for (int i = 0; i < dtos.size(); i++) {
+            gameStartSaga.start(games.get(i), dtos.get(i).playerId());
+        }
+
+        return completedFuture(games);
+    }
+
+    private Slice<GameDetailsDto> searchByNamePattern(GameSearchFilter filter) {
+        if (filter.getPlayerName() != null) {
+            throw new BadRequestException("Player name cannot be combined with a name pattern");
+        }
+        // The index pages by id on its own, filtering its page afterwards would cut it short
+        if (filter.getStatus() != null || filter.getName() != null) {
+            throw new BadRequestException("Status and name cannot be combined with a name pattern");
+        }
+        // An empty prefix matches every game, the index would page through all of them
+        if (filter.getNamePrefix() != null && filter.getNamePrefix().isEmpty()) {
+            throw new BadRequestException("Name prefix must not be empty");
+        }
+        if (filter.getNameContains() != null && filter.getNameContains().length() < GameNameIndex.GRAM_LENGTH) {
+            throw new BadRequestException("Name fragment must have at least %d characters"
+                    .formatted(GameNameIndex.GRAM_LENGTH));
+        }
+
+        // The index pages by id itself, one extra id lets the repository tell whether another page follows
+        var gameIds = gameNameIndex.find(filter.getNamePrefix(), filter.getNameContains(), filter.getAfterId(),
+                filter.getLimit() + 1);
+        if (gameIds.isEmpty()) {
+            return new SliceImpl<>(List.of());
+        }
+
+        return readOnlyTransactionOperations.execute(status ->
+                gameRepository.searchDetails(filter.setGameIds(gameIds)));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return appProperties.getSearchDefaultPageSize();
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be positive");
+        }
+
+        return Math.min(limit, appProperties.getSearchMaxPageSize());
+    }
 
-        ofNullable(dto.playerId())
-                .ifPresentOrElse(playerId -> playerClient.updatePlayerGame(playerId, game.getId()),
-                        () -> playerClient.registerPlayer(game.getId()));
-        return game;
+    private static boolean hasNoGames(GameSearchFilter filter, List<Long> gameIds) {
+        // An empty id list means no filter to the repository, so a player without games must not reach it
+        return filter.getPlayerName() != null && gameIds.isEmpty();
     }
 
-    private List<Long> getGameIdsByPlayerName(String playerName) {
+    private CompletableFuture<List<Long>> getGameIdsByPlayerName(String playerName) {
+        // The local replica answers once it is in sync, player-service is only asked while it is not
         return ofNullable(playerName)
-                .map(playerClient::getGamesByPlayerName)
-                .map(GameSearchResponseDto::games)
-                .orElse(new ArrayList<>());
+                .map(name -> playerGameReplica.getGameIds(name)
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> playerGamesCache.get(name,
+                                        (key, executor) -> playerClient.getGamesByPlayerName(key))
+                                .thenApply(GameSearchResponseDto::games)))
+                .orElse(completedFuture(new ArrayList<>()));
     }
 }
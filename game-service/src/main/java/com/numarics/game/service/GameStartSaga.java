@@ -0,0 +1,151 @@
+package com.numarics.game.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameStartSaga {
+
+    private final GameRepository gameRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PlayerClient playerClient;
+    private final AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+
+    public void start(Game game, Long playerId) {
+        // Linked by OutboxDispatcher once the game is committed, so a crash in between cannot lose the step
+        outboxEventRepository.save(new OutboxEvent()
+                .setType(OutboxEvent.Type.LINK_PLAYER)
+                .setAggregateId(game.getId())
+                .setPlayerId(playerId)
+                .setNextAttemptAt(Instant.now()));
+    }
+
+    public List<CompletableFuture<Void>> linkPlayers(List<OutboxEvent> events) {
+        var newPlayerGameIds = events.stream()
+                .filter(event -> event.getPlayerId() == null)
+                .map(OutboxEvent::getAggregateId)
+                .toList();
+        var playerGames = events.stream()
+                .filter(event -> event.getPlayerId() != null)
+                .map(event -> new PlayerGameDto(event.getPlayerId(), event.getAggregateId()))
+                .toList();
+
+        var registered = attempt(() -> registerPlayers(newPlayerGameIds));
+        var updated = attempt(() -> updatePlayersGame(playerGames));
+
+        return events.stream()
+                .map(event -> event.getPlayerId() == null
+                        ? orAloneIfRejected(registered, newPlayerGameIds.size(), event)
+                        : orAloneIfRejected(updated, playerGames.size(), event))
+                .toList();
+    }
+
+    public void linked(Long gameId) {
+        // A game deleted while its link was pending may have had its removal relayed before the link
+        gameRepository.findById(gameId)
+                .ifPresentOrElse(game -> gameRepository.save(game.setPlayerStatus(Game.PlayerStatus.LINKED)),
+                        () -> removeFromPlayerService(gameId));
+    }
+
+    public void failed(Long gameId) {
+        log.warn("Linking game {} to its player failed, dropping it", gameId);
+        gameRepository.findById(gameId)
+                .map(game -> game
+                        .setStatus(Game.Status.DROPPED)
+                        .setPlayerStatus(Game.PlayerStatus.FAILED))
+                .ifPresent(gameRepository::save);
+        // An attempt may still have reached player-service, so its side is cleared the same way as on deletion
+        removeFromPlayerService(gameId);
+    }
+
+    private CompletableFuture<Void> registerPlayers(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return completedFuture(null);
+        }
+
+        // A lone link goes to the plain endpoint, a batch request would only wrap it
+        return gameIds.size() == 1
+                ? playerClient.registerPlayer(gameIds.get(0))
+                : playerClient.registerPlayers(gameIds);
+    }
+
+    private CompletableFuture<Void> updatePlayersGame(List<PlayerGameDto> playerGames) {
+        if (playerGames.isEmpty()) {
+            return completedFuture(null);
+        }
+
+        CompletableFuture<List<PlayerDetailsDto>> updated;
+        if (playerGames.size() == 1) {
+            var playerGame = playerGames.get(0);
+            updated = playerClient.updatePlayerGame(playerGame.id(), playerGame.gameId())
+                    .thenApply(List::of);
+        } else {
+            updated = playerClient.updatePlayersGame(playerGames);
+        }
+
+        return updated.thenAccept(players -> playerGamesCache.synchronous().invalidateAll(players.stream()
+                .map(PlayerDetailsDto::name)
+                .toList()));
+    }
+
+    private CompletableFuture<Void> orAloneIfRejected(CompletableFuture<Void> batch, int batchSize,
+                                                      OutboxEvent event) {
+        if (batchSize == 1) {
+            return batch;
+        }
+
+        // player-service refuses a batch as a whole, so each of its links is sent again to fail only on its own
+        return batch.exceptionallyCompose(failure -> isRejected(failure)
+                ? attempt(() -> linkPlayer(event))
+                : CompletableFuture.failedFuture(failure));
+    }
+
+    private CompletableFuture<Void> linkPlayer(OutboxEvent event) {
+        return event.getPlayerId() == null
+                ? registerPlayers(List.of(event.getAggregateId()))
+                : updatePlayersGame(List.of(new PlayerGameDto(event.getPlayerId(), event.getAggregateId())));
+    }
+
+    private static boolean isRejected(Throwable failure) {
+        var cause = failure instanceof CompletionException ? failure.getCause() : failure;
+
+        return cause instanceof HttpClientErrorException;
+    }
+
+    private static CompletableFuture<Void> attempt(Supplier<CompletableFuture<Void>> call) {
+        // Rejections are thrown by the client, they fail only the events of that call
+        try {
+            return call.get();
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private void removeFromPlayerService(Long gameId) {
+        outboxEventRepository.save(new OutboxEvent()
+                .setType(OutboxEvent.Type.GAME_REMOVED)
+                .setAggregateId(gameId)
+                .setNextAttemptAt(Instant.now()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.numarics.game.service;
+
+import com.numarics.game.model.dto.GameDetailsDto;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface GameStream {
+
+    void forEach(Consumer<GameDetailsDto> consumer);
+}
@@ -0,0 +1,174 @@
+package com.numarics.game.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.numarics.game.configuration.CacheConfig.GAMES_CACHE;
+import static com.numarics.game.model.entity.OutboxEvent.Type.GAME_REMOVED;
+import static com.numarics.game.model.entity.OutboxEvent.Type.LINK_PLAYER;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final PlayerClient playerClient;
+    private final GameStartSaga gameStartSaga;
+    private final AppProperties appProperties;
+    private final AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+    private final CacheManager cacheManager;
+    private final TransactionOperations transactionOperations;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            PlayerClient playerClient,
+                            GameStartSaga gameStartSaga,
+                            AppProperties appProperties,
+                            AsyncCache<String, GameSearchResponseDto> playerGamesCache,
+                            CacheManager cacheManager,
+                            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.playerClient = playerClient;
+        this.gameStartSaga = gameStartSaga;
+        this.appProperties = appProperties;
+        this.playerGamesCache = playerGamesCache;
+        this.cacheManager = cacheManager;
+        this.transactionOperations = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${game.outbox.pollInterval:PT1S}")
+    public void dispatch() {
+        var now = Instant.now();
+        // Links go out first, so a game deleted right after it started is cleared after its player was linked
+        dispatch(LINK_PLAYER, now);
+        dispatch(GAME_REMOVED, now);
+    }
+
+    private void dispatch(OutboxEvent.Type type, Instant now) {
+        var events = outboxEventRepository.findByTypeAndParkedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                type, now, PageRequest.ofSize(appProperties.getOutboxBatchSize()));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // The whole batch is sent before waiting, so with the async client the calls overlap
+        var deliveries = relay(type, events).stream()
+                .map(delivery -> delivery.handle((ignored, failure) -> failure))
+                .toList();
+
+        var delivered = new ArrayList<OutboxEvent>();
+        var failed = new ArrayList<OutboxEvent>();
+        for (int i = 0; i < events.size(); i++) {
+            var event = events.get(i);
+            var failure = deliveries.get(i).join();
+            if (failure == null) {
+                delivered.add(event);
+            } else {
+                failed.add(retryOrPark(event, failure, now));
+            }
+        }
+        var parked = failed.stream()
+                .filter(event -> event.getParkedAt() != null)
+                .toList();
+
+        // Games are settled in the same transaction as their events, so none is left pending without an event
+        transactionOperations.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAllByIdInBatch(ids(delivered));
+            outboxEventRepository.saveAll(failed);
+            if (type == LINK_PLAYER) {
+                delivered.forEach(event -> gameStartSaga.linked(event.getAggregateId()));
+                parked.forEach(event -> gameStartSaga.failed(event.getAggregateId()));
+            }
+        });
+
+        if (type == LINK_PLAYER) {
+            var gamesCache = cacheManager.getCache(GAMES_CACHE);
+            delivered.forEach(event -> gamesCache.evict(event.getAggregateId()));
+            parked.forEach(event -> gamesCache.evict(event.getAggregateId()));
+        } else {
+            delivered.forEach(event -> evictPlayerGames(event.getAggregateId()));
+        }
+    }
+
+    private List<CompletableFuture<Void>> relay(OutboxEvent.Type type, List<OutboxEvent> events) {
+        if (type == LINK_PLAYER) {
+            return gameStartSaga.linkPlayers(events);
+        }
+
+        return events.stream()
+                .map(event -> removeGame(event.getAggregateId()))
+                .toList();
+    }
+
+    private CompletableFuture<Void> removeGame(Long gameId) {
+        try {
+            return playerClient.removeGame(gameId);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private OutboxEvent retryOrPark(OutboxEvent event, Throwable failure, Instant now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        if (isRejected(event.getType(), failure) || attempts >= appProperties.getOutboxMaxAttempts()) {
+            log.error("Relaying {} for game {} failed, parking it after attempt {}", event.getType(),
+                    event.getAggregateId(), attempts, failure);
+            return event.setParkedAt(now);
+        }
+
+        log.warn("Relaying {} for game {} failed, attempt {}", event.getType(), event.getAggregateId(), attempts,
+                failure);
+        return event.setNextAttemptAt(now.plus(backoff(attempts)));
+    }
+
+    private static boolean isRejected(OutboxEvent.Type type, Throwable failure) {
+        // player-service refusing the request will refuse it again. A removal's 404 may still be a route that is not
+        // up yet, while a link's names a player that does not exist
+        var cause = failure instanceof CompletionException ? failure.getCause() : failure;
+
+        return cause instanceof HttpClientErrorException exception
+                && (type == LINK_PLAYER || !NOT_FOUND.equals(exception.getStatusCode()));
+    }
+
+    private Duration backoff(int attempts) {
+        var delay = appProperties.getOutboxInitialBackoff()
+                .multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS));
+        var maxBackoff = appProperties.getOutboxMaxBackoff();
+
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream()
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    private void evictPlayerGames(Long gameId) {
+        playerGamesCache.synchronous().asMap().values()
+                .removeIf(response -> response.games().contains(gameId));
+    }
+}
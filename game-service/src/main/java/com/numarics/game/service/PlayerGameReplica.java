@@ -0,0 +1,194 @@
+package com.numarics.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.common.player.PlayerGames;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.client.dto.PlayerChangeDto;
+import com.numarics.game.client.dto.PlayerChangeLogHeaderDto;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.configuration.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_CHANGED;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_DELETED;
+import static java.nio.file.StandardOpenOption.READ;
+
+@Slf4j
+@Component
+public class PlayerGameReplica {
+
+    public static final String PLAYERS_METRIC = "game.player.replica.players";
+
+    private final PlayerClient playerClient;
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PlayerGames playerGames = new PlayerGames();
+    // Run of player-service the snapshot came from, last applied change and the log offset after it, only touched
+    // by the polling thread
+    private String epoch;
+    private long sequence;
+    private long position;
+    private volatile boolean ready;
+
+    public PlayerGameReplica(PlayerClient playerClient,
+                             AppProperties appProperties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.playerClient = playerClient;
+        this.appProperties = appProperties;
+        this.objectMapper = objectMapper;
+        Gauge.builder(PLAYERS_METRIC, playerGames, PlayerGames::size)
+                .description("Players in the local replica of player-service")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${game.playerReplica.pollInterval:PT0.5S}")
+    public void poll() {
+        // Without the change log a snapshot would go stale straight away, so searches keep asking player-service
+        if (!appProperties.isPlayerReplicaEnabled() || !Files.exists(appProperties.getPlayerServiceChangesFile())) {
+            ready = false;
+            return;
+        }
+
+        try {
+            if (!ready) {
+                resync();
+            }
+            catchUp();
+            ready = true;
+        } catch (IOException | RuntimeException exception) {
+            ready = false;
+            log.warn("Player replica is out of sync, searches ask player-service until it resyncs", exception);
+        }
+    }
+
+    public Optional<List<Long>> getGameIds(String name) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(playerGames.getGameIds(name));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void resync() {
+        long start = System.nanoTime();
+        int pageSize = appProperties.getPlayerReplicaSnapshotPageSize();
+        var first = playerClient.getPlayerSnapshot(null, pageSize).join();
+
+        lock.writeLock().lock();
+        try {
+            playerGames.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Pages are applied one at a time, so only the replica itself ever holds every player
+        var page = first;
+        while (putAll(page.players()) == pageSize) {
+            page = playerClient.getPlayerSnapshot(page.players().get(pageSize - 1).id(), pageSize).join();
+            if (!first.epoch().equals(page.epoch())) {
+                throw new IllegalStateException("Player change log started a new epoch");
+            }
+        }
+        // The log is read again from its start. Replaying from the first page's sequence also reapplies changes later
+        // pages already hold, which leaves those players as they are
+        epoch = first.epoch();
+        sequence = first.sequence();
+        position = 0;
+        log.info("Resynced {} players at change {} in {} ms", playerGames.size(), sequence,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int putAll(List<PlayerDetailsDto> players) {
+        lock.writeLock().lock();
+        try {
+            players.forEach(player -> playerGames.put(player.id(), player.name(), player.gameId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return players.size();
+    }
+
+    private void catchUp() throws IOException {
+        List<PlayerChangeDto> changes = new ArrayList<>();
+        try (var channel = FileChannel.open(appProperties.getPlayerServiceChangesFile(), READ)) {
+            // A restarted player-service or a rotated log starts a new epoch, offsets and sequences of the old one mean
+            // nothing there
+            var header = readLine(new BufferedInputStream(Channels.newInputStream(channel)));
+            if (header == null
+                    || !epoch.equals(objectMapper.readValue(header, PlayerChangeLogHeaderDto.class).epoch())) {
+                throw new IllegalStateException("Player change log started a new epoch");
+            }
+            if (position == 0) {
+                position = header.length + 1;
+            }
+            var input = new BufferedInputStream(Channels.newInputStream(channel.position(position)));
+            for (var line = readLine(input); line != null; line = readLine(input)) {
+                changes.add(objectMapper.readValue(line, PlayerChangeDto.class));
+                position += line.length + 1;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            changes.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static byte[] readLine(InputStream input) throws IOException {
+        // A line without its newline is still being written and is read again on the next poll
+        var line = new ByteArrayOutputStream();
+        for (int next = input.read(); next != -1; next = input.read()) {
+            if (next == '\n') {
+                return line.toByteArray();
+            }
+            line.write(next);
+        }
+
+        return null;
+    }
+
+    private void apply(PlayerChangeDto change) {
+        if (change.sequence() <= sequence) {
+            return;
+        }
+        if (change.sequence() != sequence + 1) {
+            throw new IllegalStateException("Player changes after %d are missing".formatted(sequence));
+        }
+
+        if (change.type() == PLAYER_CHANGED) {
+            playerGames.put(change.playerId(), change.name(), change.gameId());
+        } else if (change.type() == PLAYER_DELETED) {
+            playerGames.remove(change.playerId());
+        } else {
+            playerGames.clearGame(change.gameId());
+        }
+        sequence = change.sequence();
+    }
+}
@@ -0,0 +1,3 @@
+-- Search filters on status and/or name and pages by id, so id trails each index to serve the keyset order
+CREATE INDEX idx_games_status_id ON games (status, id);
+CREATE INDEX idx_games_name_id ON games (name, id);
@@ -0,0 +1,12 @@
+CREATE TABLE outbox_events
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type            VARCHAR(255)               NOT NULL,
+    aggregate_id    BIGINT                     NOT NULL,
+    attempts        INT                        NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Dispatcher polls due events of a type in insertion order
+CREATE INDEX idx_outbox_events_type_next_attempt_at ON outbox_events (type, next_attempt_at, id);
@@ -0,0 +1,8 @@
+-- Sequence ids let Hibernate batch inserts, the increment matches the entity's pooled allocationSize
+CREATE SEQUENCE games_seq START WITH 1 INCREMENT BY 50;
+
+-- The pooled optimizer takes each value as the top of its block and hands out the 49 ids below it first,
+-- so the first value sits a whole block above the existing ids
+ALTER SEQUENCE games_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM games);
+
+ALTER TABLE games ALTER COLUMN id DROP IDENTITY;
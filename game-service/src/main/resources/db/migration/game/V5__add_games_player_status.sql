@@ -0,0 +1,4 @@
+-- Games started before this column linked their player within the same transaction
+ALTER TABLE games ADD COLUMN player_status VARCHAR(255);
+
+UPDATE games SET player_status = 'LINKED';
@@ -0,0 +1,6 @@
+-- Events that will not be delivered are kept for inspection instead of being retried forever
+ALTER TABLE outbox_events ADD COLUMN parked_at TIMESTAMP(6) WITH TIME ZONE;
+
+-- Dispatcher polls due events of a type that are not parked, in insertion order
+DROP INDEX idx_outbox_events_type_next_attempt_at;
+CREATE INDEX idx_outbox_events_type_parked_at_next_attempt_at ON outbox_events (type, parked_at, next_attempt_at, id);
@@ -0,0 +1,2 @@
+-- Player a started game is linked to, empty when a new player is registered for the game
+ALTER TABLE outbox_events ADD COLUMN player_id BIGINT;
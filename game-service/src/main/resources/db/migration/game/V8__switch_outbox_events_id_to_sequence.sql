@@ -0,0 +1,6 @@
+-- Pooled like games_seq, so the events a batch of writes records are inserted in JDBC batches
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE outbox_events_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM outbox_events);
+
+ALTER TABLE outbox_events ALTER COLUMN id DROP IDENTITY;
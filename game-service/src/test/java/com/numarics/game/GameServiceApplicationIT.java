@@ -1,14 +1,143 @@
 package com.numarics.game;
 
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
+import com.numarics.game.service.GameNameIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The outbox dispatcher polls once on startup only, so it adds no statements to the counts checked here
+@SpringBootTest(properties = "game.outbox.pollInterval=PT1H")
 class GameServiceApplicationIT {
 
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    GameNameIndex gameNameIndex;
+
+    @Test
+    @DisplayName("Hibernate statistics are published as meters")
+    void hibernateStatisticsPublishedAsMeters() {
+        assertThat(meterRegistry.find("hibernate.sessions.open")
+                .tag("entityManagerFactory", "entityManagerFactory")
+                .functionCounter()).isNotNull();
+    }
+
     @Test
     @DisplayName("App starts up")
     void contextLoads() {
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Game loads are served from the second-level cache")
+    void gameLoadsServedFromSecondLevelCache() {
+        var game = gameRepository.save(new Game().setName(make()));
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        gameRepository.findById(game.getId());
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    @DisplayName("Outbox events are inserted in JDBC batches")
+    void outboxEventsInsertedInBatches() {
+        var events = IntStream.range(0, 10)
+                .mapToObj(i -> new OutboxEvent()
+                        .setType(OutboxEvent.Type.GAME_REMOVED)
+                        .setAggregateId((long) i)
+                        .setNextAttemptAt(Instant.now()))
+                .toList();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+
+        outboxEventRepository.saveAll(events);
+
+        // One sequence call and one batched insert
+        assertThat(statistics.getPrepareStatementCount() - statements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Game details and searches are projected without loading entities")
+    void gameDetailsProjectedWithoutLoadingEntities() {
+        var game = gameRepository.save(new Game().setName(make()).setStatus(Game.Status.NEW));
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long loads = statistics.getEntityLoadCount();
+
+        var details = gameRepository.findDetailsById(game.getId());
+        var found = gameRepository.searchDetails(new GameSearchFilter()
+                .setGameIds(List.of(game.getId()))
+                .setLimit(1));
+
+        assertThat(details).hasValueSatisfying(dto -> assertThat(dto.name()).isEqualTo(game.getName()));
+        assertThat(found.getContent()).containsExactly(details.get());
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    @DisplayName("Game name index rebuilt from stored games, unnamed games skipped")
+    void gameNameIndexRebuiltFromStoredGames() {
+        var name = make();
+        var game = gameRepository.save(new Game().setName(name));
+        gameRepository.save(new Game());
+
+        gameNameIndex.rebuild();
+
+        assertThat(gameNameIndex.find(name, null, null, 2)).containsExactly(game.getId());
+    }
+
+    @Test
+    @DisplayName("Game name index changes outside a transaction applied at once")
+    void gameNameIndexChangesOutsideTransactionAppliedAtOnce() {
+        var name = make();
+        var game = gameRepository.save(new Game().setName(name));
+
+        gameNameIndex.add(game.getId(), name);
+        var added = gameNameIndex.find(name, null, null, 1);
+        gameNameIndex.remove(game.getId());
+
+        assertThat(added).containsExactly(game.getId());
+        assertThat(gameNameIndex.find(name, null, null, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Game name index scans by id for a prefix of many names")
+    void gameNameIndexScansBroadPrefix() {
+        var prefix = make();
+        // Ids no stored game has, added outside a transaction so they apply at once
+        var ids = LongStream.rangeClosed(-GameNameIndex.MAX_MERGED_NAMES - 1, -1).boxed().toList();
+        ids.forEach(id -> gameNameIndex.add(id, prefix + id));
+
+        var found = gameNameIndex.find(prefix, null, null, 2);
+        ids.forEach(gameNameIndex::remove);
+
+        assertThat(found).isEqualTo(ids.subList(0, 2));
+    }
+}
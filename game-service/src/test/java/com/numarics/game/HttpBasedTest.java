@@ -4,6 +4,8 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.numarics.game.configuration.AppProperties;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -27,18 +29,28 @@ public class HttpBasedTest {
     protected static final String GAME_URI = GAMES_URI + "/{id}";
     protected static final String PLAY_URI = GAME_URI + "/play";
     protected static final String PLAY_GAME_URI = GAMES_URI + "/play";
+    protected static final String PLAY_GAMES_URI = PLAY_GAME_URI + "/batch";
 
     protected static WireMockServer wireMockServer;
 
     @Autowired
-    AppProperties appProperties;
+    protected AppProperties appProperties;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
 
     static {
         RestAssuredConfig.config().getLogConfig()
                 .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
     }
 
+    @BeforeEach
+    void evictSecondLevelCache() {
+        // Each test context has its own database but they all share the JCache manager, so games cached by
+        // another context under the same id are dropped
+        entityManagerFactory.getCache().evictAll();
+    }
+
     protected String url(String path) {
         String URL_TEMPLATE = "http://localhost:%s%s";
 
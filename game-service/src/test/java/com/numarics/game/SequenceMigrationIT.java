@@ -0,0 +1,41 @@
+package com.numarics.game;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceMigrationIT {
+
+    static final String URL = "jdbc:h2:mem:game-sequence-migration;DB_CLOSE_DELAY=-1";
+    static final int EXISTING_GAMES = 75;
+
+    @Test
+    @DisplayName("Games sequence restarts a whole block above the existing ids")
+    void gamesSequenceRestartsAboveExistingIds() throws SQLException {
+        migrate("3");
+        try (var connection = DriverManager.getConnection(URL, "sa", "");
+             var statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO games (id, name) SELECT X, CONCAT('game-', X) "
+                    + "FROM SYSTEM_RANGE(1, %d)".formatted(EXISTING_GAMES));
+            migrate("latest");
+
+            var next = statement.executeQuery("SELECT NEXT VALUE FOR games_seq");
+            next.next();
+            assertThat(next.getLong(1)).isEqualTo(EXISTING_GAMES + 50);
+        }
+    }
+
+    private static void migrate(String target) {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/game")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,456 @@
+package com.numarics.game.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.client.dto.PlayersDetailsDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static com.numarics.game.TestUtil.generateId;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.apache.hc.core5.http.HttpVersion.HTTP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPlayerClientTest {
+
+    AsyncPlayerClient client;
+
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    CloseableHttpAsyncClient httpAsyncClient;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .ignoreExceptions(HttpClientErrorException.class)
+            .build());
+
+    BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    private static final String HOST = make();
+    private static final String PORT = generateId().toString();
+    private static final String ENTRY_POINT = make();
+
+    @BeforeEach
+    void setUp() {
+        client = new AsyncPlayerClient(appProperties, httpAsyncClient, objectMapper, meterRegistry,
+                circuitBreakerRegistry, bulkheadRegistry,
+                new IdempotentCallPolicy(appProperties, meterRegistry, Runnable::run), Runnable::run);
+        lenient().when(appProperties.getPlayerServiceHost()).thenReturn(HOST);
+        lenient().when(appProperties.getPlayerServicePort()).thenReturn(PORT);
+        lenient().when(appProperties.getPlayerServiceEntryPoint()).thenReturn(ENTRY_POINT);
+    }
+
+    @Test
+    @DisplayName("Register player - ok")
+    void registerPlayer_ok() throws IOException, URISyntaxException {
+        // Given
+        Long gameId = generateId();
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(201)));
+
+        // When
+        var result = client.registerPlayer(gameId);
+
+        // Then
+        assertThat(result).isCompleted();
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri("register"));
+        assertThat(objectMapper.readTree(request.getBodyBytes()).get("gameId").asLong()).isEqualTo(gameId);
+    }
+
+    @Test
+    @DisplayName("Register players - ok")
+    void registerPlayers_ok() throws IOException, URISyntaxException {
+        // Given
+        var gameIds = List.of(generateId(), generateId());
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(201)));
+
+        // When
+        var result = client.registerPlayers(gameIds);
+
+        // Then
+        assertThat(result).isCompleted();
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri("register", "batch"));
+        assertThat(objectMapper.readTree(request.getBodyBytes()).get("players").findValuesAsText("gameId"))
+                .containsExactly(gameIds.get(0).toString(), gameIds.get(1).toString());
+    }
+
+    @Test
+    @DisplayName("Update player game - ok")
+    void updatePlayerGame_ok() throws IOException, URISyntaxException {
+        // Given
+        Long playerId = generateId();
+        Long gameId = generateId();
+        var dto = new PlayerDetailsDto(playerId, make(), gameId);
+        var body = objectMapper.writeValueAsBytes(dto);
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, body,
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.updatePlayerGame(playerId, gameId);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("PATCH");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri(playerId.toString()));
+        assertThat(objectMapper.readTree(request.getBodyBytes()).get("gameId").asLong()).isEqualTo(gameId);
+    }
+
+    @Test
+    @DisplayName("Update players game - ok")
+    void updatePlayersGame_ok() throws IOException, URISyntaxException {
+        // Given
+        var playerGame = new PlayerGameDto(generateId(), generateId());
+        var dto = new PlayerDetailsDto(playerGame.id(), make(), playerGame.gameId());
+        var body = objectMapper.writeValueAsBytes(new PlayersDetailsDto(List.of(dto)));
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, body,
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.updatePlayersGame(List.of(playerGame));
+
+        // Then
+        assertThat(result).isCompletedWithValue(List.of(dto));
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("PATCH");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri("batch"));
+        var players = objectMapper.readTree(request.getBodyBytes()).get("players");
+        assertThat(players.get(0).get("id").asLong()).isEqualTo(playerGame.id());
+        assertThat(players.get(0).get("gameId").asLong()).isEqualTo(playerGame.gameId());
+    }
+
+    @Test
+    @DisplayName("Get games by player name - ok")
+    void getGamesByPlayerName_ok() throws IOException, URISyntaxException {
+        // Given
+        String name = make();
+        var dto = new GameSearchResponseDto(List.of(generateId(), generateId()));
+        var body = objectMapper.writeValueAsBytes(dto);
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, body,
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.getGamesByPlayerName(name);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("GET");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri(name, "games"));
+    }
+
+    @Test
+    @DisplayName("Get games by player name - ok, reserved characters in the name encoded")
+    void getGamesByPlayerName_okReservedCharactersEncoded() throws IOException {
+        // Given
+        var dto = new GameSearchResponseDto(List.of(generateId()));
+        var body = objectMapper.writeValueAsBytes(dto);
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, body,
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.getGamesByPlayerName("a b?c#d");
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        assertThat(capturedRequest().getPath()).isEqualTo("/%s/a%%20b%%3Fc%%23d/games".formatted(ENTRY_POINT));
+    }
+
+    @Test
+    @DisplayName("Get games by player name - unreadable response")
+    void getGamesByPlayerName_unreadableResponse() {
+        // Given
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, make(),
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.getGamesByPlayerName(make());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    @DisplayName("Get player snapshot - ok, page after the given id")
+    void getPlayerSnapshot_ok() throws IOException, URISyntaxException {
+        // Given
+        Long afterId = generateId();
+        var dto = new PlayerSnapshotDto(make(), generateId(),
+                List.of(new PlayerDetailsDto(generateId(), make(), null)));
+        var body = objectMapper.writeValueAsBytes(dto);
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200, body,
+                ContentType.APPLICATION_JSON)));
+
+        // When
+        var result = client.getPlayerSnapshot(afterId, 10);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("GET");
+        assertThat(request.getUri().toString())
+                .isEqualTo(buildRequestUri("snapshot") + "?afterId=" + afterId + "&limit=10");
+    }
+
+    @Test
+    @DisplayName("Remove game - ok")
+    void removeGame_ok() throws URISyntaxException {
+        // Given
+        Long gameId = generateId();
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(200)));
+
+        // When
+        var result = client.removeGame(gameId);
+
+        // Then
+        assertThat(result).isCompleted();
+        var request = capturedRequest();
+        assertThat(request.getMethod()).isEqualTo("PUT");
+        assertThat(request.getUri().toString()).isEqualTo(buildRequestUri("games", gameId.toString()));
+        assertThat(requests("removeGame", "SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Remove game - client error")
+    void removeGame_clientError() {
+        // Given
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(404)));
+
+        // When
+        var result = client.removeGame(generateId());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.class);
+        assertThat(requests("removeGame", "CLIENT_ERROR")).isEqualTo(1);
+        assertThat(circuitBreaker("removeGame").getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Remove game - server error")
+    void removeGame_serverError() {
+        // Given
+        respondWith(callback -> callback.completed(SimpleHttpResponse.create(503)));
+
+        // When
+        var result = client.removeGame(generateId());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThat(requests("removeGame", "SERVER_ERROR")).isEqualTo(1);
+        assertThat(circuitBreaker("removeGame").getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Remove game - I/O error")
+    void removeGame_ioError() {
+        // Given
+        respondWith(callback -> callback.failed(new IOException()));
+
+        // When
+        var result = client.removeGame(generateId());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RestClientException.class);
+        assertThat(requests("removeGame", "UNKNOWN")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Remove game - connection failure")
+    void removeGame_connectionFailure() {
+        // Given
+        respondWith(callback -> callback.failed(new IllegalStateException()));
+
+        // When
+        var result = client.removeGame(generateId());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Remove game - cancelled")
+    void removeGame_cancelled() {
+        // Given
+        respondWith(FutureCallback::cancelled);
+
+        // When
+        var result = client.removeGame(generateId());
+
+        // Then
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    @DisplayName("Remove game - cancelled by the caller")
+    @SuppressWarnings("unchecked")
+    void removeGame_cancelledByCaller() {
+        // Given
+        var exchange = mock(Future.class);
+        when(httpAsyncClient.execute(any(SimpleHttpRequest.class), any(FutureCallback.class))).thenReturn(exchange);
+
+        // When
+        client.removeGame(generateId()).cancel(true);
+
+        // Then
+        verify(exchange).cancel(true);
+        assertThat(circuitBreaker("removeGame").getMetrics().getNumberOfBufferedCalls()).isZero();
+        assertThat(requests("removeGame", "UNKNOWN")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Register player - unwritable request")
+    void registerPlayer_unwritableRequest() throws JsonProcessingException {
+        // Given
+        var failingObjectMapper = mock(ObjectMapper.class);
+        client = new AsyncPlayerClient(appProperties, httpAsyncClient, failingObjectMapper, meterRegistry,
+                circuitBreakerRegistry, bulkheadRegistry,
+                new IdempotentCallPolicy(appProperties, meterRegistry, Runnable::run), Runnable::run);
+
+        // When
+        when(failingObjectMapper.writeValueAsBytes(any())).thenThrow(JsonProcessingException.class);
+
+        // Then
+        assertThrows(RestClientException.class, () -> client.registerPlayer(generateId()));
+        verifyNoInteractions(httpAsyncClient);
+        assertThat(requests("registerPlayer", "UNKNOWN")).isEqualTo(1);
+    }
+
+    private long requests(String operation, String outcome) {
+        return meterRegistry.get(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", operation, "outcome", outcome)
+                .timer().count();
+    }
+
+    @Test
+    @DisplayName("Remove game - circuit open")
+    void removeGame_circuitOpen() {
+        // Given
+        circuitBreaker("removeGame").transitionToOpenState();
+
+        // When
+        assertThrows(CallNotPermittedException.class, () -> client.removeGame(generateId()));
+
+        // Then
+        assertThat(circuitBreaker("removeGame").getMetrics().getNumberOfNotPermittedCalls()).isEqualTo(1);
+        verifyNoInteractions(httpAsyncClient);
+    }
+
+    @Test
+    @DisplayName("Remove game - bulkhead full")
+    void removeGame_bulkheadFull() {
+        // Given
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        client = new AsyncPlayerClient(appProperties, httpAsyncClient, objectMapper, meterRegistry,
+                circuitBreakerRegistry, bulkheadRegistry,
+                new IdempotentCallPolicy(appProperties, meterRegistry, Runnable::run), Runnable::run);
+        respondWith(callback -> {
+        });
+
+        // When
+        var pending = client.removeGame(generateId());
+
+        // Then
+        assertThat(pending).isNotDone();
+        assertThrows(BulkheadFullException.class, () -> client.removeGame(generateId()));
+        verify(httpAsyncClient, times(1)).execute(any(SimpleHttpRequest.class), any(FutureCallback.class));
+    }
+
+    private CircuitBreaker circuitBreaker(String operation) {
+        return circuitBreakerRegistry.circuitBreaker(AbstractPlayerClient.INSTANCE_PREFIX + operation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWith(Consumer<FutureCallback<SimpleHttpResponse>> response) {
+        when(httpAsyncClient.execute(any(SimpleHttpRequest.class), any(FutureCallback.class)))
+                .thenAnswer(invocation -> {
+                    response.accept(invocation.getArgument(1));
+                    return null;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimpleHttpRequest capturedRequest() {
+        var captor = ArgumentCaptor.forClass(SimpleHttpRequest.class);
+        verify(httpAsyncClient, times(1)).execute(captor.capture(), any(FutureCallback.class));
+
+        return captor.getValue();
+    }
+
+    private String buildRequestUri(String... paths) {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance()
+                .scheme(HTTP)
+                .host(appProperties.getPlayerServiceHost())
+                .port(appProperties.getPlayerServicePort())
+                .pathSegment(appProperties.getPlayerServiceEntryPoint());
+        Arrays.stream(paths)
+                .forEach(builder::pathSegment);
+
+        return builder.build().encode().toUri().toString();
+    }
+}
@@ -0,0 +1,230 @@
+package com.numarics.game.client;
+
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.client.dto.PlayersDetailsDto;
+import com.numarics.game.client.dto.RegisterPlayersRequestDto;
+import com.numarics.game.client.dto.UpdatePlayersGameRequestDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.numarics.game.TestUtil.generateId;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.apache.hc.core5.http.HttpVersion.HTTP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockingPlayerClientTest {
+
+    BlockingPlayerClient client;
+
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    RestTemplate restTemplate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final String HOST = make();
+    private static final String PORT = generateId().toString();
+    private static final String ENTRY_POINT = make();
+
+    @BeforeEach
+    void setUp() {
+        client = new BlockingPlayerClient(appProperties, restTemplate, meterRegistry,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                new IdempotentCallPolicy(appProperties, meterRegistry, Runnable::run));
+        when(appProperties.getPlayerServiceHost()).thenReturn(HOST);
+        when(appProperties.getPlayerServicePort()).thenReturn(PORT);
+        when(appProperties.getPlayerServiceEntryPoint()).thenReturn(ENTRY_POINT);
+    }
+
+    @Test
+    @DisplayName("Register player - ok")
+    void registerPlayer_ok() {
+        // Given
+        Long gameId = generateId();
+        URI requestUri = buildRequestUri("register");
+
+        // When
+        var result = client.registerPlayer(gameId);
+
+        // Then
+        assertThat(result).isCompleted();
+        verify(restTemplate, times(1)).postForObject(eq(requestUri), any(), eq(Object.class));
+    }
+
+    @Test
+    @DisplayName("Register players - ok")
+    void registerPlayers_ok() {
+        // Given
+        var gameIds = List.of(generateId(), generateId());
+        URI requestUri = buildRequestUri("register", "batch");
+        var captor = ArgumentCaptor.forClass(RegisterPlayersRequestDto.class);
+
+        // When
+        var result = client.registerPlayers(gameIds);
+
+        // Then
+        assertThat(result).isCompleted();
+        verify(restTemplate, times(1)).postForObject(eq(requestUri), captor.capture(), eq(Object.class));
+        assertThat(captor.getValue().players())
+                .extracting(player -> player.gameId())
+                .containsExactlyElementsOf(gameIds);
+    }
+
+    @Test
+    @DisplayName("Update player game - ok")
+    void updatePlayerGame_ok() {
+        // Given
+        Long playerId = generateId();
+        Long gameId = generateId();
+        URI requestUrl = buildRequestUri(playerId.toString());
+        var dto = new PlayerDetailsDto(playerId, make(), gameId);
+
+        // When
+        when(restTemplate.patchForObject(eq(requestUrl), any(), eq(PlayerDetailsDto.class))).thenReturn(dto);
+        var result = client.updatePlayerGame(playerId, gameId);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+    }
+
+    @Test
+    @DisplayName("Update players game - ok")
+    void updatePlayersGame_ok() {
+        // Given
+        var playerGames = List.of(new PlayerGameDto(generateId(), generateId()));
+        URI requestUrl = buildRequestUri("batch");
+        var dto = new PlayerDetailsDto(playerGames.get(0).id(), make(), playerGames.get(0).gameId());
+
+        // When
+        when(restTemplate.patchForObject(requestUrl, new UpdatePlayersGameRequestDto(playerGames),
+                PlayersDetailsDto.class)).thenReturn(new PlayersDetailsDto(List.of(dto)));
+        var result = client.updatePlayersGame(playerGames);
+
+        // Then
+        assertThat(result).isCompletedWithValue(List.of(dto));
+    }
+
+    @Test
+    @DisplayName("Get games by player name - ok")
+    void getGamesByPlayerName_ok() {
+        // Given
+        String name = make();
+        URI requestUrl = buildRequestUri(name, "games");
+        var dto = new GameSearchResponseDto(List.of(generateId()));
+
+        // When
+        when(restTemplate.getForObject(requestUrl, GameSearchResponseDto.class)).thenReturn(dto);
+        var result = client.getGamesByPlayerName(name);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        verify(restTemplate, times(1)).getForObject(requestUrl, GameSearchResponseDto.class);
+        assertThat(meterRegistry.get(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", "getGamesByPlayerName", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Get games by player name - ok, reserved characters in the name encoded")
+    void getGamesByPlayerName_okReservedCharactersEncoded() {
+        // Given
+        var requestUrl = URI.create("http://%s:%s/%s/a%%20b%%3Fc%%23d/games".formatted(HOST, PORT, ENTRY_POINT));
+        var dto = new GameSearchResponseDto(List.of(generateId()));
+
+        // When
+        when(restTemplate.getForObject(requestUrl, GameSearchResponseDto.class)).thenReturn(dto);
+        var result = client.getGamesByPlayerName("a b?c#d");
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+    }
+
+    @Test
+    @DisplayName("Get games by player name - client error recorded")
+    void getGamesByPlayerName_clientErrorRecorded() {
+        // Given
+        String name = make();
+        URI requestUrl = buildRequestUri(name, "games");
+
+        // When
+        when(restTemplate.getForObject(requestUrl, GameSearchResponseDto.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        // Then
+        assertThrows(HttpClientErrorException.class, () -> client.getGamesByPlayerName(name));
+        assertThat(meterRegistry.get(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", "getGamesByPlayerName", "outcome", "CLIENT_ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Get player snapshot - ok, first page")
+    void getPlayerSnapshot_ok() {
+        // Given
+        URI requestUrl = URI.create(buildRequestUri("snapshot") + "?limit=10");
+        var dto = new PlayerSnapshotDto(make(), generateId(),
+                List.of(new PlayerDetailsDto(generateId(), make(), null)));
+
+        // When
+        when(restTemplate.getForObject(requestUrl, PlayerSnapshotDto.class)).thenReturn(dto);
+        var result = client.getPlayerSnapshot(null, 10);
+
+        // Then
+        assertThat(result).isCompletedWithValue(dto);
+        assertThat(meterRegistry.get(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", "getPlayerSnapshot", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Remove game - ok")
+    void removeGame() {
+        // Given
+        Long gameId = generateId();
+        URI requestUrl = buildRequestUri("games", gameId.toString());
+
+        // When
+        var result = client.removeGame(gameId);
+
+        // Then
+        assertThat(result).isCompleted();
+        verify(restTemplate, times(1)).put(requestUrl, null);
+    }
+
+    private URI buildRequestUri(String... paths) {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance()
+                .scheme(HTTP)
+                .host(appProperties.getPlayerServiceHost())
+                .port(appProperties.getPlayerServicePort())
+                .pathSegment(appProperties.getPlayerServiceEntryPoint());
+        Arrays.stream(paths)
+                .forEach(builder::pathSegment);
+
+        return builder.build().encode().toUri();
+    }
+}
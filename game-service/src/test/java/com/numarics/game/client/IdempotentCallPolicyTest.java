@@ -0,0 +1,361 @@
+package com.numarics.game.client;
+
+import com.numarics.game.configuration.AppProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentCallPolicyTest {
+
+    private static final String OPERATION = "getGamesByPlayerName";
+    private static final int MAX_ATTEMPTS = 3;
+
+    IdempotentCallPolicy policy;
+
+    @Mock
+    AppProperties appProperties;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Delayed retries and hedges are queued here and run by the test, so no test depends on timing
+    BlockingQueue<Runnable> scheduled = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(appProperties.getPlayerServiceRetryMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        lenient().when(appProperties.getPlayerServiceRetryInitialBackoff()).thenReturn(Duration.ofMillis(2));
+        lenient().when(appProperties.getPlayerServiceRetryMaxBackoff()).thenReturn(Duration.ofMillis(3));
+        lenient().when(appProperties.getPlayerServiceRetryBudgetRatio()).thenReturn(0.1);
+        lenient().when(appProperties.getPlayerServiceRetryBudgetMaxTokens()).thenReturn(10.0);
+        lenient().when(appProperties.getPlayerServiceHedgeMinDelay()).thenReturn(Duration.ZERO);
+        policy = new IdempotentCallPolicy(appProperties, meterRegistry, scheduled::add);
+    }
+
+    @Test
+    @DisplayName("Execute - ok, first attempt")
+    void execute_okFirstAttempt() {
+        // Given
+        var value = make();
+
+        // When
+        var result = policy.execute(OPERATION, () -> completedFuture(value));
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(scheduled).isEmpty();
+        assertThat(meterRegistry.get(IdempotentCallPolicy.RETRY_BUDGET_METRIC).gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Execute - ok, retried after server error")
+    void execute_okRetriedAfterServerError() throws InterruptedException {
+        // Given
+        var value = make();
+        var attempts = attempts(failedFuture(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)),
+                completedFuture(value));
+
+        // When
+        var result = policy.execute(OPERATION, attempts::remove);
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(retries("scheduled")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Execute - ok, retried after synchronous transport error")
+    void execute_okRetriedAfterSynchronousTransportError() throws InterruptedException {
+        // Given
+        var value = make();
+        var attempts = new ArrayDeque<Supplier<CompletableFuture<String>>>(List.of(
+                () -> {
+                    throw new ResourceAccessException(make());
+                },
+                () -> completedFuture(value)));
+
+        // When
+        var result = policy.execute(OPERATION, () -> attempts.remove().get());
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+    }
+
+    @Test
+    @DisplayName("Execute - client error not retried")
+    void execute_clientErrorNotRetried() {
+        // When
+        var result = policy.execute(OPERATION,
+                () -> failedFuture(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.class);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execute - synchronous client error rethrown")
+    void execute_synchronousClientErrorRethrown() {
+        // Then
+        assertThrows(HttpClientErrorException.class, () -> policy.execute(OPERATION, () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execute - server error, attempts exhausted")
+    void execute_serverErrorAttemptsExhausted() throws InterruptedException {
+        // Given
+        var attempts = new int[1];
+
+        // When
+        var result = policy.execute(OPERATION, () -> {
+            attempts[0]++;
+            return failedFuture(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        });
+        runScheduled();
+        runScheduled();
+
+        // Then
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThat(attempts[0]).isEqualTo(MAX_ATTEMPTS);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execute - server error, retry budget exhausted")
+    void execute_serverErrorRetryBudgetExhausted() {
+        // Given
+        when(appProperties.getPlayerServiceRetryBudgetMaxTokens()).thenReturn(0.0);
+        policy = new IdempotentCallPolicy(appProperties, meterRegistry, scheduled::add);
+
+        // When
+        var result = policy.execute(OPERATION,
+                () -> failedFuture(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)));
+
+        // Then
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThat(retries("budget_exhausted")).isEqualTo(1);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execute - ok, completed attempt not hedged")
+    void execute_okCompletedAttemptNotHedged() {
+        // Given
+        var value = make();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+
+        // When
+        var result = policy.execute(OPERATION, () -> completedFuture(value));
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execute - ok, hedge wins")
+    void execute_okHedgeWins() throws InterruptedException {
+        // Given
+        var value = make();
+        var primary = new CompletableFuture<String>();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        var attempts = attempts(primary, completedFuture(value));
+
+        // When
+        var result = policy.execute(OPERATION, attempts::remove);
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(primary).isCancelled();
+    }
+
+    @Test
+    @DisplayName("Execute - ok, primary wins after hedge sent")
+    void execute_okPrimaryWinsAfterHedgeSent() throws InterruptedException {
+        // Given
+        var value = make();
+        var primary = new CompletableFuture<String>();
+        var hedge = new CompletableFuture<String>();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        var attempts = attempts(primary, hedge);
+
+        // When
+        var result = policy.execute(OPERATION, attempts::remove);
+        runScheduled();
+        primary.complete(value);
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(hedge).isCancelled();
+    }
+
+    @Test
+    @DisplayName("Execute - ok, primary wins before hedge")
+    void execute_okPrimaryWinsBeforeHedge() throws InterruptedException {
+        // Given
+        var value = make();
+        var primary = new CompletableFuture<String>();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+
+        // When
+        var result = policy.execute(OPERATION, () -> primary);
+        primary.complete(value);
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(meterRegistry.find(IdempotentCallPolicy.HEDGES_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Execute - ok, hedge skipped when budget exhausted")
+    void execute_okHedgeSkippedWhenBudgetExhausted() throws InterruptedException {
+        // Given
+        var value = make();
+        var primary = new CompletableFuture<String>();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        when(appProperties.getPlayerServiceRetryBudgetMaxTokens()).thenReturn(0.0);
+        policy = new IdempotentCallPolicy(appProperties, meterRegistry, scheduled::add);
+
+        // When
+        var result = policy.execute(OPERATION, () -> primary);
+        runScheduled();
+        primary.complete(value);
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(hedges("budget_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Execute - hedge and primary both fail")
+    void execute_hedgeAndPrimaryBothFail() throws InterruptedException {
+        // Given
+        var primary = new CompletableFuture<String>();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        when(appProperties.getPlayerServiceRetryMaxAttempts()).thenReturn(1);
+        var attempts = new ArrayDeque<Supplier<CompletableFuture<String>>>(List.of(
+                () -> primary,
+                () -> {
+                    throw new ResourceAccessException(make());
+                }));
+
+        // When
+        var result = policy.execute(OPERATION, () -> attempts.remove().get());
+        runScheduled();
+
+        // Then
+        assertThat(result).isNotDone();
+        primary.completeExceptionally(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    @DisplayName("Execute - ok, hedge delayed by p95 latency")
+    void execute_okHedgeDelayedByP95Latency() throws InterruptedException {
+        // Given
+        var value = make();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        var timer = Timer.builder(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", OPERATION, "outcome", "SUCCESS")
+                .publishPercentiles(0.5, IdempotentCallPolicy.HEDGE_PERCENTILE)
+                .register(meterRegistry);
+        timer.record(Duration.ofMillis(50));
+        var attempts = attempts(new CompletableFuture<>(), completedFuture(value));
+
+        // When
+        long start = System.nanoTime();
+        var result = policy.execute(OPERATION, attempts::remove);
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+    }
+
+    @Test
+    @DisplayName("Execute - ok, hedge delay not below minimum")
+    void execute_okHedgeDelayNotBelowMinimum() throws InterruptedException {
+        // Given
+        var value = make();
+        when(appProperties.isPlayerServiceHedgeEnabled()).thenReturn(true);
+        when(appProperties.getPlayerServiceHedgeMinDelay()).thenReturn(Duration.ofMillis(1));
+        Timer.builder(AbstractPlayerClient.REQUESTS_METRIC)
+                .tags("operation", OPERATION, "outcome", "SUCCESS")
+                .publishPercentiles(IdempotentCallPolicy.HEDGE_PERCENTILE)
+                .register(meterRegistry)
+                .record(Duration.ZERO);
+        var attempts = attempts(new CompletableFuture<>(), completedFuture(value));
+
+        // When
+        var result = policy.execute(OPERATION, attempts::remove);
+        runScheduled();
+
+        // Then
+        assertThat(result).isCompletedWithValue(value);
+    }
+
+    @SafeVarargs
+    private static Queue<CompletableFuture<String>> attempts(CompletableFuture<String>... attempts) {
+        return new ArrayDeque<>(List.of(attempts));
+    }
+
+    private void runScheduled() throws InterruptedException {
+        var task = scheduled.poll(5, TimeUnit.SECONDS);
+        assertThat(task).isNotNull();
+        task.run();
+    }
+
+    private double retries(String outcome) {
+        return meterRegistry.get(IdempotentCallPolicy.RETRIES_METRIC)
+                .tags("operation", OPERATION, "outcome", outcome)
+                .counter().count();
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.get(IdempotentCallPolicy.HEDGES_METRIC)
+                .tags("operation", OPERATION, "outcome", outcome)
+                .counter().count();
+    }
+}
@@ -0,0 +1,77 @@
+package com.numarics.game.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("Withdraw - ok, starts full")
+    void tryWithdraw_okStartsFull() {
+        // Given
+        var budget = new RetryBudget(0.5, 0, 2, nanoTime::get);
+
+        // When
+        var results = new boolean[]{budget.tryWithdraw(), budget.tryWithdraw(), budget.tryWithdraw()};
+
+        // Then
+        assertThat(results).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("Withdraw - ok, funded by requests")
+    void tryWithdraw_okFundedByRequests() {
+        // Given
+        var budget = new RetryBudget(0.5, 0, 2, nanoTime::get);
+        budget.tryWithdraw();
+        budget.tryWithdraw();
+
+        // When
+        budget.deposit();
+        boolean afterOneRequest = budget.tryWithdraw();
+        budget.deposit();
+        boolean afterTwoRequests = budget.tryWithdraw();
+
+        // Then
+        assertThat(afterOneRequest).isFalse();
+        assertThat(afterTwoRequests).isTrue();
+    }
+
+    @Test
+    @DisplayName("Withdraw - ok, refilled over time")
+    void tryWithdraw_okRefilledOverTime() {
+        // Given
+        var budget = new RetryBudget(0, 2, 4, nanoTime::get);
+        for (int i = 0; i < 4; i++) {
+            budget.tryWithdraw();
+        }
+
+        // When
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertThat(budget.available()).isEqualTo(1);
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deposit - ok, capped at max tokens")
+    void deposit_okCappedAtMaxTokens() {
+        // Given
+        var budget = new RetryBudget(1, 1, 3);
+
+        // When
+        budget.deposit();
+
+        // Then
+        assertThat(budget.available()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,66 @@
+package com.numarics.game.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+class StreamTimeoutInterceptorTest {
+
+    static final long DEFAULT_TIMEOUT = 30_000;
+
+    StreamTimeoutInterceptor interceptor = new StreamTimeoutInterceptor(Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Before concurrent handling - ok, streamed response given the longer timeout")
+    void beforeConcurrentHandling_okStreamedResponse() {
+        // Given
+        var request = asyncRequest(APPLICATION_NDJSON_VALUE);
+
+        // When
+        interceptor.beforeConcurrentHandling(request, () -> null);
+
+        // Then
+        assertThat(startedTimeout(request)).isEqualTo(Duration.ofMinutes(5).toMillis());
+    }
+
+    @Test
+    @DisplayName("Before concurrent handling - ok, other responses keep the default timeout")
+    void beforeConcurrentHandling_okOtherResponses() {
+        // Given
+        var jsonRequest = asyncRequest(APPLICATION_JSON_VALUE);
+        var untypedRequest = asyncRequest(null);
+
+        // When
+        interceptor.beforeConcurrentHandling(jsonRequest, () -> null);
+        interceptor.beforeConcurrentHandling(untypedRequest, () -> null);
+
+        // Then
+        assertThat(startedTimeout(jsonRequest)).isEqualTo(DEFAULT_TIMEOUT);
+        assertThat(startedTimeout(untypedRequest)).isEqualTo(DEFAULT_TIMEOUT);
+    }
+
+    static StandardServletAsyncWebRequest asyncRequest(String contentType) {
+        var response = new MockHttpServletResponse();
+        response.setContentType(contentType);
+        var servletRequest = new MockHttpServletRequest();
+        servletRequest.setAsyncSupported(true);
+        var request = new StandardServletAsyncWebRequest(servletRequest, response);
+        request.setTimeout(DEFAULT_TIMEOUT);
+
+        return request;
+    }
+
+    static long startedTimeout(StandardServletAsyncWebRequest request) {
+        request.startAsync();
+
+        return request.getNativeRequest(MockHttpServletRequest.class).getAsyncContext().getTimeout();
+    }
+}
@@ -1,9 +1,17 @@
 package com.numarics.game.controller;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.numarics.game.HttpBasedTest;
 import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.model.filter.SearchCursor;
 import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
+import com.github.tomakehurst.wiremock.http.Fault;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -11,23 +19,38 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static com.numarics.game.TestUtil.generateId;
+import static com.numarics.game.client.AbstractPlayerClient.INSTANCE_PREFIX;
+import static com.numarics.game.controller.GameController.NEXT_CURSOR_HEADER;
+import static com.numarics.game.model.entity.Game.PlayerStatus.FAILED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.LINKED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.PENDING;
 import static com.numarics.game.model.entity.Game.Status.*;
 import static io.restassured.RestAssured.given;
 import static net.bytebuddy.utility.RandomString.make;
+import static org.awaitility.Awaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpStatus.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @DisplayName("Game controller")
 @AutoConfigureWireMock(port = 8081)
@@ -36,6 +59,15 @@ public class GameControllerIT extends HttpBasedTest {
     @Autowired
     GameRepository gameRepository;
 
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    BulkheadRegistry bulkheadRegistry;
+
     @BeforeAll
     static void setUp() {
         startWireMockServer();
@@ -64,13 +96,74 @@ public class GameControllerIT extends HttpBasedTest {
                 .body("updatedAt", notNullValue());
     }
 
+    @Test
+    @DisplayName("Get details - not modified, matching ETag")
+    void getDetails_notModifiedMatchingETag() {
+        var game = createGame(FINISHED);
+
+        String eTag = given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value())
+                .header(CACHE_CONTROL, containsString("public"))
+                .extract()
+                .header(ETAG);
+
+        given()
+                .headers(defaultHeaders())
+                .header(IF_NONE_MATCH, eTag)
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(NOT_MODIFIED.value())
+                .header(ETAG, equalTo(eTag))
+                .body(emptyString());
+    }
+
+    @Test
+    @DisplayName("Get details - ok, ETag changes with status")
+    void getDetails_okETagChangesWithStatus() throws JSONException {
+        var game = createGame(NEW);
+
+        String eTag = given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value())
+                .header(CACHE_CONTROL, equalTo("no-cache"))
+                .extract()
+                .header(ETAG);
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(updateStatusRequestJSON().toString())
+                .when()
+                .put(url(PLAY_URI), game.getId())
+                .then()
+                .statusCode(OK.value());
+
+        given()
+                .headers(defaultHeaders())
+                .header(IF_NONE_MATCH, eTag)
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value())
+                .header(ETAG, not(equalTo(eTag)))
+                .body("status", equalTo(FINISHED.name()));
+    }
+
     @Test
     @DisplayName("Get details - player not found")
     void getDetails_playerNotFound() {
         given()
                 .headers(defaultHeaders())
                 .when()
-                .get(url(GAME_URI), generateId())
+                .get(url(GAME_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
@@ -103,7 +196,7 @@ public class GameControllerIT extends HttpBasedTest {
                 .contentType(APPLICATION_JSON_VALUE)
                 .body(updateStatusRequestJSON().toString())
                 .when()
-                .put(url(PLAY_URI), generateId())
+                .put(url(PLAY_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
@@ -120,6 +213,103 @@ public class GameControllerIT extends HttpBasedTest {
                 .delete(url(GAME_URI), game.getId())
                 .then()
                 .statusCode(NO_CONTENT.value());
+
+        awaitRequest(putRequestedFor(urlEqualTo("/player/games/" + game.getId())));
+    }
+
+    @Test
+    @DisplayName("Delete game - ok, player service unavailable")
+    void deleteGame_okPlayerServiceUnavailable() {
+        var game = createGame();
+        stubFor(WireMock.put(urlEqualTo("/player/games/" + game.getId()))
+                .willReturn(aResponse().withStatus(SERVICE_UNAVAILABLE.value())));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        var event = awaitParkedEvent(game.getId());
+        assertThat(event.getAttempts()).isEqualTo(appProperties.getOutboxMaxAttempts());
+    }
+
+    @Test
+    @DisplayName("Delete game - ok, rejected player-service cleanup parked")
+    void deleteGame_okRejectedCleanupParked() {
+        var game = createGame();
+        stubFor(WireMock.put(urlEqualTo("/player/games/" + game.getId()))
+                .willReturn(aResponse().withStatus(BAD_REQUEST.value())));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        var event = awaitParkedEvent(game.getId());
+        assertThat(event.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Get details - ok, cached game reflects status update")
+    void getDetails_okCachedGameReflectsStatusUpdate() throws JSONException {
+        var game = createGame();
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value())
+                .body("status", equalTo(NEW.name()));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(updateStatusRequestJSON().toString())
+                .when()
+                .put(url(PLAY_URI), game.getId())
+                .then()
+                .statusCode(OK.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value())
+                .body("status", equalTo(FINISHED.name()));
+    }
+
+    @Test
+    @DisplayName("Get details - not found, cached game deleted")
+    void getDetails_notFoundCachedGameDeleted() {
+        var game = createGame();
+        stubForRemovingGame(game.getId());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(OK.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), game.getId())
+                .then()
+                .statusCode(NOT_FOUND.value());
     }
 
     @Test
@@ -128,7 +318,7 @@ public class GameControllerIT extends HttpBasedTest {
         given()
                 .headers(defaultHeaders())
                 .when()
-                .delete(url(GAME_URI), generateId())
+                .delete(url(GAME_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
@@ -198,144 +388,1124 @@ public class GameControllerIT extends HttpBasedTest {
     }
 
     @Test
-    @DisplayName("Search by status and name - ok, found matching game")
-    void searchByStatusAndName_okFoundMatchingGame() {
-        var name = make();
-        createGame(DROPPED);
-        createGame(NEW);
-        createGame(FINISHED);
-        var droppedGame2 = createGame(name, DROPPED);
+    @DisplayName("Search by player name - ok, nothing found for player without games")
+    void searchByPlayerName_okPlayerWithoutGames() throws JSONException {
+        createGame();
+        String playerName = make();
+
+        stubForGameSearchByPlayerName(playerName);
 
         given()
                 .headers(defaultHeaders())
                 .when()
-                .param("status", DROPPED.toString())
-                .param("name", name)
+                .param("playerName", playerName)
                 .get(url(GAMES_URI))
                 .then()
                 .statusCode(OK.value())
-                .body("", hasSize(1))
-                .body("[0].id", equalTo(droppedGame2.getId().intValue()))
-                .body("[0].name", equalTo(droppedGame2.getName()))
-                .body("[0].status", equalTo(droppedGame2.getStatus().name()));
+                .body("", hasSize(0));
     }
 
     @Test
-    @DisplayName("Start game - missing name")
-    void startGame_missingName() throws JSONException {
-        var startGame = startGameJSON()
-                .put("name", null);
+    @DisplayName("Search by player name - ok, reserved characters in the name encoded")
+    void searchByPlayerName_okReservedCharactersEncoded() throws JSONException {
+        var game = createGame();
+        String prefix = make();
+
+        stubFor(WireMock.get(urlEqualTo("/player/" + prefix + "%20b%3Fc%23d/games"))
+                .willReturn(aResponse()
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody(gameSearchResponseJSON(game.getId()).toString())));
 
         given()
                 .headers(defaultHeaders())
-                .contentType(APPLICATION_JSON_VALUE)
-                .body(startGame.toString())
                 .when()
-                .post(url(PLAY_GAME_URI))
+                .param("playerName", prefix + " b?c#d")
+                .get(url(GAMES_URI))
                 .then()
-                .statusCode(BAD_REQUEST.value());
+                .statusCode(OK.value())
+                .body("id", contains(game.getId().intValue()));
     }
 
     @Test
-    @DisplayName("Start game - ok, as unregistered player")
-    void startGame_okAsUnregisteredPlayer() throws JSONException {
-        var startGame = startGameJSON()
-                .put("playerId", null);
+    @DisplayName("Search by player name - ok, player games cached")
+    void searchByPlayerName_okPlayerGamesCached() throws JSONException {
+        var game = createGame();
+        String playerName = make();
 
-        stubForPlayerRegistration();
+        stubForGameSearchByPlayerName(playerName, game.getId());
 
-        given()
-                .headers(defaultHeaders())
-                .contentType(APPLICATION_JSON_VALUE)
-                .body(startGame.toString())
-                .when()
-                .post(url(PLAY_GAME_URI))
-                .then()
-                .statusCode(CREATED.value())
-                .body("id", notNullValue())
-                .body("name", equalTo(startGame.getString("name")))
-                .body("status", equalTo(NEW.name()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue());
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(OK.value())
+                    .body("id", contains(game.getId().intValue()));
+        }
+
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
     }
 
     @Test
-    @DisplayName("Start game - ok, as registered player")
-    void startGame_okAsRegisteredPlayer() throws JSONException {
-        var startGame = startGameJSON();
-
-        stubForPlayerGameUpdate(startGame.getLong("playerId"));
+    @DisplayName("Search by player name - ok, retried after server error")
+    void searchByPlayerName_okRetriedAfterServerError() throws JSONException {
+        var game = createGame();
+        String playerName = make();
+        String scenario = UUID.randomUUID().toString();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(SERVICE_UNAVAILABLE.value()))
+                .willSetStateTo("recovered"));
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", APPLICATION_JSON_VALUE)
+                        .withBody(gameSearchResponseJSON(game.getId()).toString())));
 
         given()
                 .headers(defaultHeaders())
-                .contentType(APPLICATION_JSON_VALUE)
-                .body(startGame.toString())
                 .when()
-                .post(url(PLAY_GAME_URI))
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
                 .then()
-                .statusCode(CREATED.value())
-                .body("id", notNullValue())
-                .body("name", equalTo(startGame.getString("name")))
-                .body("status", equalTo(NEW.name()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue());
-    }
+                .statusCode(OK.value())
+                .body("id", contains(game.getId().intValue()));
 
-    Game createGame() {
-        return createGame(make());
+        verify(2, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
     }
 
-    Game createGame(String name) {
-        return createGame(name, NEW);
-    }
+    @Test
+    @DisplayName("Search by player name - service unavailable, circuit open")
+    void searchByPlayerName_serviceUnavailableCircuitOpen() {
+        String playerName = make();
+        var circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "getGamesByPlayerName");
+        int minimumNumberOfCalls = circuitBreaker.getCircuitBreakerConfig().getMinimumNumberOfCalls();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse().withStatus(INTERNAL_SERVER_ERROR.value())));
 
-    Game createGame(Game.Status status) {
-        return createGame(make(), status);
-    }
+        try {
+            // Retries and earlier calls from other tests share the sliding window, so count searches, not calls
+            int searches = 0;
+            while (searches < minimumNumberOfCalls && circuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+                given()
+                        .headers(defaultHeaders())
+                        .when()
+                        .param("playerName", playerName)
+                        .get(url(GAMES_URI));
+                searches++;
+            }
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            int calls = findAll(getRequestedFor(urlEqualTo("/player/" + playerName + "/games"))).size();
 
-    Game createGame(String name, Game.Status status) {
-        return gameRepository.save(new Game()
-                .setName(name)
-                .setStatus(status));
-    }
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(SERVICE_UNAVAILABLE.value());
 
-    JSONObject startGameJSON() throws JSONException {
-        return new JSONObject()
-                .put("name", make())
-                .put("playerId", generateId());
+            verify(calls, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+        } finally {
+            circuitBreaker.reset();
+        }
     }
 
-    JSONObject updateStatusRequestJSON() throws JSONException {
-        return new JSONObject()
-                .put("status", Game.Status.FINISHED);
+    @Test
+    @DisplayName("Search by player name - internal server error, player-service connection reset")
+    void searchByPlayerName_internalServerErrorConnectionReset() {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "getGamesByPlayerName").reset();
+        }
     }
 
-    void stubForRemovingGame(Long gameId) {
-        stubFor(put(WireMock.urlEqualTo("/player/games/" + gameId)));
+    @Test
+    @DisplayName("Search by player name - internal server error, garbled player-service response")
+    void searchByPlayerName_internalServerErrorGarbledResponse() {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse().withFault(Fault.RANDOM_DATA_THEN_CLOSE)));
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "getGamesByPlayerName").reset();
+        }
     }
 
-    void stubForGameSearchByPlayerName(String playerName, Long gameId) throws JSONException {
-        stubFor(WireMock.get(WireMock.urlEqualTo("/player/" + playerName + "/games"))
+    @Test
+    @DisplayName("Search by player name - internal server error, unreadable player-service response")
+    void searchByPlayerName_internalServerErrorUnreadableResponse() {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
                 .willReturn(aResponse()
-                        .withHeader("Content-Type", APPLICATION_JSON_VALUE)
-                        .withBody(gameSearchResponseJSON(gameId).toString())));
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("{\"games\": [")));
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "getGamesByPlayerName").reset();
+        }
+
+        // Only transport errors and server errors are retried
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
     }
 
-    void stubForPlayerRegistration() {
-        stubFor(WireMock.post(WireMock.urlEqualTo("/player/register"))
-                .withHeader(ACCEPT, WireMock.containing(APPLICATION_JSON_VALUE))
-                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
-                .withRequestBody(WireMock.matchingJsonPath("$.name"))
-                .withRequestBody(WireMock.matchingJsonPath("$.gameId"))
-                .willReturn(aResponse().withStatus(CREATED.value())));
+    @Test
+    @DisplayName("Search by player name - service unavailable, bulkhead full")
+    void searchByPlayerName_serviceUnavailableBulkheadFull() {
+        String playerName = make();
+        var bulkhead = bulkheadRegistry.bulkhead(INSTANCE_PREFIX + "getGamesByPlayerName");
+        int permits = 0;
+        while (bulkhead.tryAcquirePermission()) {
+            permits++;
+        }
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(SERVICE_UNAVAILABLE.value());
+        } finally {
+            for (int i = 0; i < permits; i++) {
+                bulkhead.onComplete();
+            }
+        }
+
+        verify(0, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
     }
 
-    void stubForPlayerGameUpdate(Long playerId) {
-        stubFor(WireMock.patch(WireMock.urlEqualTo("/player/" + playerId))
-                .withHeader(ACCEPT, WireMock.containing(APPLICATION_JSON_VALUE))
-                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
-                .withRequestBody(WireMock.matchingJsonPath("$.gameId"))
-                .willReturn(aResponse().withStatus(OK.value())));
+    @Test
+    @DisplayName("Search by status and name - ok, found matching game")
+    void searchByStatusAndName_okFoundMatchingGame() {
+        var name = make();
+        createGame(DROPPED);
+        createGame(NEW);
+        createGame(FINISHED);
+        var droppedGame2 = createGame(name, DROPPED);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("status", DROPPED.toString())
+                .param("name", name)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("", hasSize(1))
+                .body("[0].id", equalTo(droppedGame2.getId().intValue()))
+                .body("[0].name", equalTo(droppedGame2.getName()))
+                .body("[0].status", equalTo(droppedGame2.getStatus().name()));
+    }
+
+    @Test
+    @DisplayName("Search by name pattern - ok, started games found until deleted")
+    void searchByNamePattern_okStartedGamesFoundUntilDeleted() throws JSONException {
+        var prefix = make();
+        stubForPlayerRegistration();
+        stubForPlayersRegistration();
+        var alpha = startGame(prefix + " Alpha");
+        var beta = startGame(prefix + " Beta");
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix.toUpperCase())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", contains(alpha.intValue(), beta.intValue()));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", prefix.substring(2) + " alp")
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", contains(alpha.intValue()));
+
+        stubForRemovingGame(alpha);
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(GAME_URI), alpha)
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", contains(beta.intValue()));
+    }
+
+    @Test
+    @DisplayName("Search by name fragment - too short")
+    void searchByNameFragment_tooShort() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", "ab")
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Search by name pattern - combined with another filter")
+    void searchByNamePattern_combinedWithAnotherFilter() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", make())
+                .param("status", NEW.name())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", make())
+                .param("name", make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", make())
+                .param("playerName", make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Stream search by name pattern - not streamable")
+    void streamSearchByNamePattern_notStreamable() {
+        given()
+                .accept(APPLICATION_NDJSON_VALUE)
+                .when()
+                .param("namePrefix", make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+
+        given()
+                .accept(APPLICATION_NDJSON_VALUE)
+                .when()
+                .param("nameContains", make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Search by name fragment - ok, nothing matches")
+    void searchByNameFragment_okNothingMatches() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", empty())
+                .header(NEXT_CURSOR_HEADER, nullValue());
+    }
+
+    @Test
+    @DisplayName("Search by name pattern - ok, paged with cursor")
+    void searchByNamePattern_okPagedWithCursor() throws JSONException {
+        var prefix = make();
+        stubForPlayerRegistration();
+        stubForPlayersRegistration();
+        var alpha = startGame(prefix + " Alpha");
+        var beta = startGame(prefix + " Beta");
+
+        String cursor = given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix)
+                .param("limit", 1)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, notNullValue())
+                .body("id", contains(alpha.intValue()))
+                .extract()
+                .header(NEXT_CURSOR_HEADER);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix)
+                .param("limit", 1)
+                .param("cursor", cursor)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, nullValue())
+                .body("id", contains(beta.intValue()));
+    }
+
+    @Test
+    @DisplayName("Search by name prefix and fragment - ok, only games matching both found")
+    void searchByNamePrefixAndFragment_okOnlyGamesMatchingBothFound() throws JSONException {
+        var prefix = make();
+        var fragment = make();
+        stubForPlayerRegistration();
+        stubForPlayersRegistration();
+        var both = startGame(prefix + " " + fragment);
+        startGame(make() + " " + fragment);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix)
+                .param("nameContains", fragment)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", contains(both.intValue()));
+    }
+
+    @Test
+    @DisplayName("Search by name fragment - ok, names holding only its trigrams skipped")
+    void searchByNameFragment_okNamesHoldingOnlyItsTrigramsSkipped() throws JSONException {
+        var fragment = make();
+        stubForPlayerRegistration();
+        stubForPlayersRegistration();
+        // Every trigram of the fragment plus "z" occurs in the name, the fragment itself does not
+        startGame(fragment + " " + fragment.substring(fragment.length() - 2) + "z");
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", fragment + "z")
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", empty());
+    }
+
+    @Test
+    @DisplayName("Search by name pattern - ok, games of several names found in id order up to the limit")
+    void searchByNamePattern_okGamesOfSeveralNamesFoundUpToLimit() throws JSONException {
+        var prefix = make();
+        stubForPlayerRegistration();
+        stubForPlayersRegistration();
+        var first = startGame(prefix + " b");
+        var second = startGame(prefix + " a");
+        startGame(prefix + " b");
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", prefix)
+                .param("limit", 2)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, notNullValue())
+                .body("id", contains(first.intValue(), second.intValue()));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("nameContains", prefix)
+                .param("limit", 2)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, notNullValue())
+                .body("id", contains(first.intValue(), second.intValue()));
+    }
+
+    @Test
+    @DisplayName("Search by name prefix - empty")
+    void searchByNamePrefix_empty() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("namePrefix", "")
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Search - ok, paged with cursor")
+    void search_okPagedWithCursor() {
+        var name = make();
+        var game1 = createGame(name);
+        var game2 = createGame(name);
+        var game3 = createGame(name);
+
+        String cursor = given()
+                .headers(defaultHeaders())
+                .when()
+                .param("name", name)
+                .param("limit", 2)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, notNullValue())
+                .body("id", contains(game1.getId().intValue(), game2.getId().intValue()))
+                .extract()
+                .header(NEXT_CURSOR_HEADER);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("name", name)
+                .param("limit", 2)
+                .param("cursor", cursor)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(NEXT_CURSOR_HEADER, nullValue())
+                .body("id", contains(game3.getId().intValue()));
+    }
+
+    @Test
+    @DisplayName("Stream search - ok, one game per line")
+    void streamSearch_okOneGamePerLine() throws JSONException {
+        var name = make();
+        var game1 = createGame(name);
+        var game2 = createGame(name, DROPPED);
+        createGame();
+
+        String body = given()
+                .accept(APPLICATION_NDJSON_VALUE)
+                .when()
+                .param("name", name)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .header(CONTENT_TYPE, startsWith(APPLICATION_NDJSON_VALUE))
+                .extract()
+                .asString();
+
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        JSONAssert.assertEquals(new JSONObject()
+                .put("id", game1.getId())
+                .put("name", name)
+                .put("status", NEW.name()).toString(), lines.get(0), false);
+        JSONAssert.assertEquals(new JSONObject()
+                .put("id", game2.getId())
+                .put("name", name)
+                .put("status", DROPPED.name()).toString(), lines.get(1), false);
+    }
+
+    @Test
+    @DisplayName("Stream search by player name - ok, resumed from cursor")
+    void streamSearchByPlayerName_okResumedFromCursor() throws JSONException {
+        var game1 = createGame();
+        var game2 = createGame();
+        String playerName = make();
+
+        stubForGameSearchByPlayerName(playerName, game1.getId(), game2.getId());
+
+        String body = given()
+                .accept(APPLICATION_NDJSON_VALUE)
+                .when()
+                .param("playerName", playerName)
+                .param("cursor", SearchCursor.encode(game1.getId()))
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .extract()
+                .asString();
+
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(1);
+        JSONAssert.assertEquals(new JSONObject().put("id", game2.getId()).toString(), lines.get(0), false);
+    }
+
+    @Test
+    @DisplayName("Stream search by player name - ok, nothing streamed for player without games")
+    void streamSearchByPlayerName_okPlayerWithoutGames() throws JSONException {
+        createGame();
+        String playerName = make();
+
+        stubForGameSearchByPlayerName(playerName);
+
+        given()
+                .accept(APPLICATION_NDJSON_VALUE)
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body(emptyString());
+    }
+
+    @Test
+    @DisplayName("Stream search by player name - internal server error, player-service connection reset")
+    void streamSearchByPlayerName_internalServerErrorConnectionReset() {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+        try {
+            given()
+                    .accept(APPLICATION_NDJSON_VALUE)
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "getGamesByPlayerName").reset();
+        }
+    }
+
+    @Test
+    @DisplayName("Search - invalid cursor")
+    void search_invalidCursor() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("cursor", "%" + make())
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Search - invalid limit")
+    void search_invalidLimit() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("limit", 0)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Start game - missing name")
+    void startGame_missingName() throws JSONException {
+        var startGame = startGameJSON()
+                .put("name", null);
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGame.toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Start game - ok, as unregistered player")
+    void startGame_okAsUnregisteredPlayer() throws JSONException {
+        var startGame = startGameJSON()
+                .put("playerId", null);
+
+        stubForPlayerRegistration();
+
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGame.toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("id", notNullValue())
+                .body("name", equalTo(startGame.getString("name")))
+                .body("status", equalTo(NEW.name()))
+                .body("playerStatus", equalTo(PENDING.name()))
+                .body("createdAt", notNullValue())
+                .body("updatedAt", notNullValue())
+                .extract()
+                .jsonPath()
+                .getLong("id");
+
+        awaitPlayerStatus(id, LINKED);
+        verify(1, postRequestedFor(urlEqualTo("/player/register"))
+                .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+    }
+
+    @Test
+    @DisplayName("Start game - ok, as registered player")
+    void startGame_okAsRegisteredPlayer() throws JSONException {
+        var startGame = startGameJSON();
+
+        stubForPlayerGameUpdate(startGame.getLong("playerId"));
+
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGame.toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("id", notNullValue())
+                .body("name", equalTo(startGame.getString("name")))
+                .body("status", equalTo(NEW.name()))
+                .body("playerStatus", equalTo(PENDING.name()))
+                .body("createdAt", notNullValue())
+                .body("updatedAt", notNullValue())
+                .extract()
+                .jsonPath()
+                .getLong("id");
+
+        awaitPlayerStatus(id, LINKED);
+        verify(1, patchRequestedFor(urlEqualTo("/player/" + startGame.getLong("playerId")))
+                .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+    }
+
+    @Test
+    @DisplayName("Start game - failed player link drops the game")
+    void startGame_failedPlayerLinkDropsGame() throws JSONException {
+        var startGame = startGameJSON()
+                .put("playerId", null);
+
+        stubFor(WireMock.post(WireMock.urlEqualTo("/player/register"))
+                .willReturn(serverError()));
+
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGame.toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("playerStatus", equalTo(PENDING.name()))
+                .extract()
+                .jsonPath()
+                .getLong("id");
+
+        awaitPlayerStatus(id, FAILED);
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), id)
+                .then()
+                .statusCode(OK.value())
+                .body("status", equalTo(DROPPED.name()));
+        assertThat(outboxEventRepository.findAll())
+                .anyMatch(event -> event.getType() == OutboxEvent.Type.LINK_PLAYER
+                        && event.getAggregateId().equals(id)
+                        && event.getAttempts() == appProperties.getOutboxMaxAttempts()
+                        && event.getParkedAt() != null)
+                .anyMatch(event -> event.getType() == OutboxEvent.Type.GAME_REMOVED
+                        && event.getAggregateId().equals(id));
+    }
+
+    @Test
+    @DisplayName("Start game - unknown player drops the game on its first link attempt")
+    void startGame_unknownPlayerDropsGame() throws JSONException {
+        var startGame = startGameJSON();
+        Long playerId = startGame.getLong("playerId");
+
+        stubFor(WireMock.patch(urlEqualTo("/player/" + playerId))
+                .willReturn(aResponse().withStatus(NOT_FOUND.value())));
+
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGame.toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("playerStatus", equalTo(PENDING.name()))
+                .extract()
+                .jsonPath()
+                .getLong("id");
+
+        awaitPlayerStatus(id, FAILED);
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), id)
+                .then()
+                .statusCode(OK.value())
+                .body("status", equalTo(DROPPED.name()));
+        assertThat(awaitParkedEvent(id).getAttempts()).isEqualTo(1);
+        verify(1, patchRequestedFor(urlEqualTo("/player/" + playerId)));
+    }
+
+    @Test
+    @DisplayName("Start game - failed, player link rejected while the circuit is open")
+    void startGame_failedPlayerLinkRejectedCircuitOpen() throws JSONException {
+        var circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + "registerPlayer");
+        circuitBreaker.transitionToForcedOpenState();
+
+        try {
+            Long id = given()
+                    .headers(defaultHeaders())
+                    .contentType(APPLICATION_JSON_VALUE)
+                    .body(startGameJSON().put("playerId", null).toString())
+                    .when()
+                    .post(url(PLAY_GAME_URI))
+                    .then()
+                    .statusCode(CREATED.value())
+                    .extract()
+                    .jsonPath()
+                    .getLong("id");
+
+            awaitPlayerStatus(id, FAILED);
+            verify(0, postRequestedFor(urlEqualTo("/player/register"))
+                    .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+        } finally {
+            circuitBreaker.reset();
+        }
+    }
+
+    @Test
+    @DisplayName("Start game - ok, game deleted before its player was linked removed again")
+    void startGame_okGameDeletedBeforeLinkRemovedAgain() throws JSONException {
+        // The link is still in flight when the game is deleted
+        stubFor(WireMock.post(WireMock.urlEqualTo("/player/register"))
+                .willReturn(aResponse().withStatus(CREATED.value()).withFixedDelay(1_000)));
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGameJSON().put("playerId", null).toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .extract()
+                .jsonPath()
+                .getLong("id");
+        stubForRemovingGame(id);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(GAME_URI), id)
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        var removal = putRequestedFor(urlEqualTo("/player/games/" + id));
+        await().untilAsserted(() -> verify(2, removal));
+        verify(1, postRequestedFor(urlEqualTo("/player/register"))
+                .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+    }
+
+    @Test
+    @DisplayName("Start games - ok, players linked in one call per kind")
+    void startGames_ok() throws JSONException {
+        var registeredPlayerGames = List.of(startGameJSON(), startGameJSON());
+        var unregisteredPlayerGames = List.of(startGameJSON().put("playerId", null),
+                startGameJSON().put("playerId", null));
+        var games = new JSONArray()
+                .put(registeredPlayerGames.get(0))
+                .put(unregisteredPlayerGames.get(0))
+                .put(registeredPlayerGames.get(1))
+                .put(unregisteredPlayerGames.get(1));
+
+        stubForPlayersRegistration();
+        stubForPlayersGameUpdate(registeredPlayerGames.get(0).getLong("playerId"),
+                registeredPlayerGames.get(1).getLong("playerId"));
+
+        List<Integer> ids = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("games", games).toString())
+                .when()
+                .post(url(PLAY_GAMES_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("games.name", contains(registeredPlayerGames.get(0).getString("name"),
+                        unregisteredPlayerGames.get(0).getString("name"),
+                        registeredPlayerGames.get(1).getString("name"),
+                        unregisteredPlayerGames.get(1).getString("name")))
+                .body("games.status", everyItem(equalTo(NEW.name())))
+                .body("games.createdAt", everyItem(notNullValue()))
+                .extract().path("games.id");
+
+        assertThat(gameRepository.findAllById(ids.stream().map(Long::valueOf).toList())).hasSize(4);
+        for (var id : ids) {
+            awaitPlayerStatus(id.longValue(), LINKED);
+        }
+        verify(1, postRequestedFor(urlEqualTo("/player/register/batch"))
+                .withRequestBody(matchingJsonPath("$.players[?(@.gameId == %d)]".formatted(ids.get(1))))
+                .withRequestBody(matchingJsonPath("$.players[?(@.gameId == %d)]".formatted(ids.get(3)))));
+        verify(1, patchRequestedFor(urlEqualTo("/player/batch"))
+                .withRequestBody(matchingJsonPath("$.players[?(@.id == %d && @.gameId == %d)]"
+                        .formatted(registeredPlayerGames.get(0).getLong("playerId"), ids.get(0))))
+                .withRequestBody(matchingJsonPath("$.players[?(@.id == %d && @.gameId == %d)]"
+                        .formatted(registeredPlayerGames.get(1).getLong("playerId"), ids.get(2)))));
+    }
+
+    @Test
+    @DisplayName("Start games - ok, unknown player drops only its own game")
+    void startGames_okUnknownPlayerDropsOnlyItsGame() throws JSONException {
+        var knownPlayerGame = startGameJSON();
+        var unknownPlayerGame = startGameJSON();
+        Long knownPlayerId = knownPlayerGame.getLong("playerId");
+        Long unknownPlayerId = unknownPlayerGame.getLong("playerId");
+
+        stubFor(WireMock.patch(urlEqualTo("/player/batch"))
+                .willReturn(aResponse().withStatus(NOT_FOUND.value())));
+        stubForPlayerGameUpdate(knownPlayerId);
+        stubFor(WireMock.patch(urlEqualTo("/player/" + unknownPlayerId))
+                .willReturn(aResponse().withStatus(NOT_FOUND.value())));
+
+        List<Integer> ids = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject()
+                        .put("games", new JSONArray().put(knownPlayerGame).put(unknownPlayerGame))
+                        .toString())
+                .when()
+                .post(url(PLAY_GAMES_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .extract().path("games.id");
+
+        awaitPlayerStatus(ids.get(0).longValue(), LINKED);
+        awaitPlayerStatus(ids.get(1).longValue(), FAILED);
+        assertThat(awaitParkedEvent(ids.get(1).longValue()).getAttempts()).isEqualTo(1);
+        verify(1, patchRequestedFor(urlEqualTo("/player/" + unknownPlayerId)));
+    }
+
+    @Test
+    @DisplayName("Start games - ok, rejected registration batch sent again link by link")
+    void startGames_okRejectedRegistrationBatchSentLinkByLink() throws JSONException {
+        stubFor(WireMock.post(urlEqualTo("/player/register/batch"))
+                .willReturn(aResponse().withStatus(BAD_REQUEST.value())));
+        stubForPlayerRegistration();
+
+        List<Integer> ids = startUnregisteredPlayerGames();
+
+        for (var id : ids) {
+            awaitPlayerStatus(id.longValue(), LINKED);
+            verify(1, postRequestedFor(urlEqualTo("/player/register"))
+                    .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+        }
+    }
+
+    @Test
+    @DisplayName("Start games - failed registration batch not sent again link by link")
+    void startGames_failedRegistrationBatchNotSentLinkByLink() throws JSONException {
+        stubFor(WireMock.post(urlEqualTo("/player/register/batch"))
+                .willReturn(serverError()));
+
+        List<Integer> ids = startUnregisteredPlayerGames();
+
+        for (var id : ids) {
+            awaitPlayerStatus(id.longValue(), FAILED);
+            verify(0, postRequestedFor(urlEqualTo("/player/register"))
+                    .withRequestBody(matchingJsonPath("$.gameId", WireMock.equalTo(id.toString()))));
+        }
+    }
+
+    @Test
+    @DisplayName("Start games - missing name")
+    void startGames_missingName() throws JSONException {
+        var games = new JSONArray()
+                .put(startGameJSON())
+                .put(startGameJSON().put("name", null));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("games", games).toString())
+                .when()
+                .post(url(PLAY_GAMES_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    Game createGame() {
+        return createGame(make());
+    }
+
+    Game createGame(String name) {
+        return createGame(name, NEW);
+    }
+
+    Game createGame(Game.Status status) {
+        return createGame(make(), status);
+    }
+
+    Game createGame(String name, Game.Status status) {
+        return gameRepository.save(new Game()
+                .setName(name)
+                .setStatus(status)
+                .setPlayerStatus(LINKED));
+    }
+
+    JSONObject startGameJSON() throws JSONException {
+        return new JSONObject()
+                .put("name", make())
+                .put("playerId", generateId());
+    }
+
+    JSONObject updateStatusRequestJSON() throws JSONException {
+        return new JSONObject()
+                .put("status", Game.Status.FINISHED);
+    }
+
+    void awaitRequest(RequestPatternBuilder request) {
+        await().untilAsserted(() -> verify(moreThanOrExactly(1), request));
+    }
+
+    OutboxEvent awaitParkedEvent(Long gameId) {
+        return await().until(() -> findParkedEvent(gameId), Optional::isPresent).get();
+    }
+
+    Optional<OutboxEvent> findParkedEvent(Long gameId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(gameId) && event.getParkedAt() != null)
+                .findFirst();
+    }
+
+    void awaitPlayerStatus(Long id, Game.PlayerStatus playerStatus) {
+        await().until(() -> given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(GAME_URI), id)
+                .then()
+                .statusCode(OK.value())
+                .extract()
+                .jsonPath()
+                .getString("playerStatus"), equalTo(playerStatus.name()));
+    }
+
+    void stubForRemovingGame(Long gameId) {
+        stubFor(put(WireMock.urlEqualTo("/player/games/" + gameId)));
+    }
+
+    void stubForGameSearchByPlayerName(String playerName, Long... gameIds) throws JSONException {
+        stubFor(WireMock.get(WireMock.urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", APPLICATION_JSON_VALUE)
+                        .withBody(gameSearchResponseJSON(gameIds).toString())));
+    }
+
+    Long startGame(String name) throws JSONException {
+        Long id = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(startGameJSON().put("name", name).put("playerId", null).toString())
+                .when()
+                .post(url(PLAY_GAME_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .extract()
+                .jsonPath()
+                .getLong("id");
+        // Settled before the test goes on, so its link is never relayed together with another test's links
+        awaitPlayerStatus(id, LINKED);
+
+        return id;
+    }
+
+    List<Integer> startUnregisteredPlayerGames() throws JSONException {
+        var games = new JSONArray()
+                .put(startGameJSON().put("playerId", null))
+                .put(startGameJSON().put("playerId", null));
+
+        return given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("games", games).toString())
+                .when()
+                .post(url(PLAY_GAMES_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .extract().path("games.id");
+    }
+
+    void stubForPlayerRegistration() {
+        stubFor(WireMock.post(WireMock.urlEqualTo("/player/register"))
+                .withHeader(ACCEPT, WireMock.containing(APPLICATION_JSON_VALUE))
+                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
+                .withRequestBody(WireMock.matchingJsonPath("$.name"))
+                .withRequestBody(WireMock.matchingJsonPath("$.gameId"))
+                .willReturn(aResponse().withStatus(CREATED.value())));
+    }
+
+    void stubForPlayersRegistration() {
+        stubFor(WireMock.post(WireMock.urlEqualTo("/player/register/batch"))
+                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
+                .withRequestBody(WireMock.matchingJsonPath("$.players[0].name"))
+                .willReturn(aResponse().withStatus(CREATED.value())));
+    }
+
+    void stubForPlayersGameUpdate(Long... playerIds) throws JSONException {
+        var players = new JSONArray();
+        for (Long playerId : playerIds) {
+            players.put(playerDetailsJSON(playerId));
+        }
+        stubFor(WireMock.patch(WireMock.urlEqualTo("/player/batch"))
+                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
+                .willReturn(aResponse()
+                        .withStatus(OK.value())
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody(new JSONObject()
+                                .put("players", players)
+                                .toString())));
+    }
+
+    void stubForPlayerGameUpdate(Long playerId) throws JSONException {
+        stubFor(WireMock.patch(WireMock.urlEqualTo("/player/" + playerId))
+                .withHeader(ACCEPT, WireMock.containing(APPLICATION_JSON_VALUE))
+                .withHeader(CONTENT_TYPE, WireMock.containing(APPLICATION_JSON_VALUE))
+                .withRequestBody(WireMock.matchingJsonPath("$.gameId"))
+                .willReturn(aResponse()
+                        .withStatus(OK.value())
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody(playerDetailsJSON(playerId).toString())));
+    }
+
+    JSONObject playerDetailsJSON(Long playerId) throws JSONException {
+        return new JSONObject()
+                .put("id", playerId)
+                .put("name", make());
     }
 
     JSONObject gameSearchResponseJSON(Long... ids) throws JSONException {
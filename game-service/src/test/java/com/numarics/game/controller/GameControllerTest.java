@@ -1,27 +1,53 @@
 package com.numarics.game.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.game.configuration.AppProperties;
 import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.dto.StartGameRequestDto;
 import com.numarics.game.model.dto.StartGameResponseDto;
+import com.numarics.game.model.dto.StartGamesRequestDto;
 import com.numarics.game.model.dto.UpdateGameStatusDto;
 import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.filter.GameSearchFilter;
+import com.numarics.game.model.filter.SearchCursor;
 import com.numarics.game.service.GameService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static com.numarics.game.TestUtil.generateId;
+import static com.numarics.game.controller.GameController.NEXT_CURSOR_HEADER;
+import static com.numarics.game.model.entity.Game.PlayerStatus.LINKED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.PENDING;
 import static com.numarics.game.model.entity.Game.Status.FINISHED;
 import static com.numarics.game.model.entity.Game.Status.NEW;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static net.bytebuddy.utility.RandomString.make;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 @ExtendWith(MockitoExtension.class)
 class GameControllerTest {
@@ -32,11 +58,14 @@ class GameControllerTest {
     @Mock
     ConversionService conversionService;
 
+    @Mock
+    AppProperties appProperties;
+
     GameController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new GameController(gameService, conversionService);
+        controller = new GameController(gameService, conversionService, new ObjectMapper(), appProperties);
     }
 
     @Test
@@ -44,20 +73,78 @@ class GameControllerTest {
     void getDetails_ok() {
         // Given
         Long id = generateId();
-        var game = mock(Game.class);
-        var dto = mock(GameDetailsDto.class);
+        var game = new GameDetailsDto(id, make(), NEW, LINKED, Instant.EPOCH, Instant.ofEpochMilli(255));
 
         // When
-        when(gameService.getById(id)).thenReturn(game);
-        when(conversionService.convert(game, GameDetailsDto.class)).thenReturn(dto);
+        when(gameService.getDetails(id)).thenReturn(game);
 
-        var result = controller.getDetails(id);
+        var result = controller.getDetails(id, webRequest(null));
 
         // Then
-        assertThat(result).isEqualTo(dto);
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isEqualTo(game);
+        assertThat(result.getHeaders().getETag()).isEqualTo("\"%d-ff-0-1\"".formatted(id));
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-cache");
         verifyNoMoreInteractions(gameService, conversionService);
     }
 
+    @Test
+    @DisplayName("Get details - ok, settled game cacheable")
+    void getDetails_okSettledGameCacheable() {
+        // Given
+        Long id = generateId();
+        var game = new GameDetailsDto(id, make(), FINISHED, LINKED, null, null);
+
+        // When
+        when(gameService.getDetails(id)).thenReturn(game);
+        when(appProperties.getSettledGameMaxAge()).thenReturn(Duration.ofMinutes(5));
+
+        var result = controller.getDetails(id, webRequest(null));
+
+        // Then
+        assertThat(result.getHeaders().getETag()).isEqualTo("\"%d-0-1-1\"".formatted(id));
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("max-age=300, public");
+    }
+
+    @Test
+    @DisplayName("Get details - not modified")
+    void getDetails_notModified() {
+        // Given
+        Long id = generateId();
+        var game = new GameDetailsDto(id, make(), NEW, LINKED, Instant.EPOCH, Instant.ofEpochMilli(255));
+
+        // When
+        when(gameService.getDetails(id)).thenReturn(game);
+
+        var result = controller.getDetails(id, webRequest("\"%d-ff-0-1\"".formatted(id)));
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(result.getBody()).isNull();
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    @DisplayName("Get details - ok, player link within the same millisecond changes the ETag")
+    void getDetails_okPlayerLinkChangesETag() {
+        // Given
+        Long id = generateId();
+        var linkedGame = new GameDetailsDto(id, make(), NEW, LINKED, Instant.EPOCH, Instant.ofEpochMilli(255));
+        // Tag served while the game was still pending, updated within the same millisecond
+        String pendingETag = "\"%d-ff-0-%d\"".formatted(id, PENDING.ordinal());
+
+        // When
+        when(gameService.getDetails(id)).thenReturn(linkedGame);
+
+        var result = controller.getDetails(id, webRequest(pendingETag));
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isEqualTo(linkedGame);
+        assertThat(result.getHeaders().getETag()).isEqualTo("\"%d-ff-0-1\"".formatted(id));
+    }
+
     @Test
     @DisplayName("Update game status - ok")
     void updateGameStatus_ok() {
@@ -93,22 +180,108 @@ class GameControllerTest {
     }
 
     @Test
-    @DisplayName("Search - ok")
-    void search_ok() {
+    @DisplayName("Search - ok, last page")
+    void search_okLastPage() {
         // Given
         String name = make();
         String playerName = make();
-        var game = mock(Game.class);
         var dto = mock(GameDetailsDto.class);
+        var filter = ArgumentCaptor.forClass(GameSearchFilter.class);
+
+        // When
+        when(gameService.search(filter.capture())).thenReturn(completedFuture(new SliceImpl<>(List.of(dto))));
+
+        var result = controller.search(NEW, name, "pre", "sub", playerName, null, null).join();
+
+        // Then
+        assertThat(result.getBody()).isEqualTo(List.of(dto));
+        verifyNoInteractions(conversionService);
+        assertThat(result.getHeaders().containsKey(NEXT_CURSOR_HEADER)).isFalse();
+        assertThat(filter.getValue().getStatus()).isEqualTo(NEW);
+        assertThat(filter.getValue().getName()).isEqualTo(name);
+        assertThat(filter.getValue().getNamePrefix()).isEqualTo("pre");
+        assertThat(filter.getValue().getNameContains()).isEqualTo("sub");
+        assertThat(filter.getValue().getPlayerName()).isEqualTo(playerName);
+        assertThat(filter.getValue().getAfterId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Search - ok, more pages follow")
+    void search_okMorePagesFollow() {
+        // Given
+        Long afterId = generateId();
+        Long lastId = afterId + 1;
+        var dto = new GameDetailsDto(lastId, make(), NEW, LINKED, null, null);
+        var games = new SliceImpl<>(List.of(dto), PageRequest.ofSize(1), true);
+        var filter = ArgumentCaptor.forClass(GameSearchFilter.class);
+
+        // When
+        when(gameService.search(filter.capture())).thenReturn(completedFuture(games));
+
+        var result = controller.search(null, null, null, null, null, SearchCursor.encode(afterId), 1).join();
+
+        // Then
+        assertThat(result.getBody()).isEqualTo(List.of(dto));
+        assertThat(result.getHeaders().getFirst(NEXT_CURSOR_HEADER)).isEqualTo(SearchCursor.encode(lastId));
+        assertThat(filter.getValue().getAfterId()).isEqualTo(afterId);
+        assertThat(filter.getValue().getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stream search - ok")
+    void streamSearch_ok() throws IOException {
+        // Given
+        Long afterId = generateId();
+        var firstDto = new GameDetailsDto(afterId + 1, make(), NEW, LINKED, null, null);
+        var secondDto = new GameDetailsDto(afterId + 2, make(), FINISHED, LINKED, null, null);
+        var filter = ArgumentCaptor.forClass(GameSearchFilter.class);
+        var output = new ByteArrayOutputStream();
 
         // When
-        when(gameService.search(any())).thenReturn(List.of(game));
-        when(conversionService.convert(game, GameDetailsDto.class)).thenReturn(dto);
+        when(gameService.streamSearch(filter.capture())).thenReturn(completedFuture(consumer -> {
+            consumer.accept(firstDto);
+            consumer.accept(secondDto);
+        }));
 
-        var result = controller.search(NEW, name, playerName);
+        var result = controller.streamSearch(NEW, null, null, null, null, SearchCursor.encode(afterId)).join();
+        result.getBody().writeTo(output);
 
         // Then
-        assertThat(result).isEqualTo(List.of(dto));
+        var mapper = new ObjectMapper();
+        assertThat(output.toString().lines())
+                .containsExactly(mapper.writeValueAsString(firstDto), mapper.writeValueAsString(secondDto));
+        assertThat(output.toString()).endsWith("\n");
+        assertThat(result.getHeaders().getContentType()).isEqualTo(APPLICATION_NDJSON);
+        assertThat(filter.getValue().getStatus()).isEqualTo(NEW);
+        assertThat(filter.getValue().getAfterId()).isEqualTo(afterId);
+        assertThat(filter.getValue().getLimit()).isNull();
+    }
+
+    @Test
+    @DisplayName("Stream search - client gone")
+    void streamSearch_clientGone() {
+        // Given
+        var dto = new GameDetailsDto(generateId(), make(), NEW, LINKED, null, null);
+        var output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When
+        when(gameService.streamSearch(any(GameSearchFilter.class))).thenReturn(completedFuture(consumer -> {
+            // Overflow the response buffer so the write reaches the broken stream
+            for (int i = 0; i < 1000; i++) {
+                consumer.accept(dto);
+            }
+        }));
+
+        var body = controller.streamSearch(null, null, null, null, null, null).join().getBody();
+
+        // Then
+        var exception = assertThrows(RuntimeException.class, () -> body.writeTo(output));
+        assertThat(exception).hasCauseInstanceOf(IOException.class);
     }
 
     @Test
@@ -120,12 +293,38 @@ class GameControllerTest {
         var game = mock(Game.class);
 
         // When
-        when(gameService.startGame(dto)).thenReturn(game);
+        when(gameService.startGame(dto)).thenReturn(completedFuture(game));
         when(conversionService.convert(game, StartGameResponseDto.class)).thenReturn(responseDto);
 
         var result = controller.startGame(dto);
 
         // Then
-        assertThat(result).isEqualTo(responseDto);
+        assertThat(result).isCompletedWithValue(responseDto);
+    }
+
+    @Test
+    @DisplayName("Start games - ok")
+    void startGames_ok() {
+        // Given
+        var dto = mock(StartGameRequestDto.class);
+        var responseDto = mock(StartGameResponseDto.class);
+        var game = mock(Game.class);
+
+        // When
+        when(gameService.startGames(List.of(dto))).thenReturn(completedFuture(List.of(game)));
+        when(conversionService.convert(game, StartGameResponseDto.class)).thenReturn(responseDto);
+
+        var result = controller.startGames(new StartGamesRequestDto(List.of(dto)));
+
+        // Then
+        assertThat(result).isCompleted();
+        assertThat(result.join().games()).containsExactly(responseDto);
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        var request = new MockHttpServletRequest("GET", "/game");
+        ofNullable(ifNoneMatch).ifPresent(eTag -> request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 }
@@ -0,0 +1,71 @@
+package com.numarics.game.controller;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.numarics.game.controller.PlayerClientHedgingIT.gameSearchResponse;
+import static io.restassured.RestAssured.given;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.http.HttpStatus.OK;
+
+@DisplayName("Metrics endpoint")
+@AutoConfigureWireMock(port = 8081)
+@AutoConfigureObservability
+public class MetricsEndpointIT extends HttpBasedTest {
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Prometheus - ok, player-service and repository latency histograms exported")
+    void prometheus_okLatencyHistogramsExported() throws JSONException {
+        var game = gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(gameSearchResponse(game)));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value());
+
+        given()
+                .when()
+                .get(url("/actuator/prometheus"))
+                .then()
+                .statusCode(OK.value())
+                .body(allOf(
+                        containsString("player_client_requests_seconds_bucket{"),
+                        containsString("game_repository_search_seconds_bucket{"),
+                        containsString("spring_data_repository_invocations_seconds_bucket{")));
+    }
+}
@@ -0,0 +1,77 @@
+package com.numarics.game.controller;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.numarics.game.controller.PlayerClientHedgingIT.gameSearchResponse;
+import static io.restassured.RestAssured.given;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.springframework.http.HttpStatus.OK;
+
+@DisplayName("Player client hedge delay")
+@AutoConfigureWireMock(port = 8081)
+@TestPropertySource(properties = {
+        "player-service.client.mode=async",
+        "player-service.client.hedge.enabled=true",
+        "player-service.client.hedge.minDelay=100ms",
+        // Other percentiles published next to the one hedges are timed by
+        "management.metrics.distribution.percentiles.player.client.requests=0.5,0.95"})
+public class PlayerClientHedgeDelayIT extends HttpBasedTest {
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, hedged no earlier than the p95 latency")
+    void searchByPlayerName_okHedgedNoEarlierThanP95Latency() throws JSONException {
+        var game = gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+
+        // A fast answer keeps the hedge delay at its minimum, so the slow one after it is hedged
+        search(game, 0);
+        String slowPlayerName = search(game, 600);
+        // With the slow answer as p95 latency, a faster one is waited for instead
+        String playerName = search(game, 300);
+
+        verify(2, getRequestedFor(urlEqualTo("/player/" + slowPlayerName + "/games")));
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    String search(Game game, int delay) throws JSONException {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(gameSearchResponse(game).withFixedDelay(delay)));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value());
+
+        return playerName;
+    }
+}
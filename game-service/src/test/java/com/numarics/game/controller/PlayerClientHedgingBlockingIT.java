@@ -0,0 +1,65 @@
+package com.numarics.game.controller;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.numarics.game.controller.PlayerClientHedgingIT.gameSearchResponse;
+import static io.restassured.RestAssured.given;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.http.HttpStatus.OK;
+
+@DisplayName("Player client hedging - blocking player client")
+@AutoConfigureWireMock(port = 8081)
+@TestPropertySource(properties = {
+        "player-service.client.mode=blocking",
+        "player-service.client.hedge.enabled=true",
+        "player-service.client.hedge.minDelay=100ms"})
+public class PlayerClientHedgingBlockingIT extends HttpBasedTest {
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, slow answer not hedged")
+    void searchByPlayerName_okSlowAnswerNotHedged() throws JSONException {
+        var game = gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(gameSearchResponse(game).withFixedDelay(300)));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", contains(game.getId().intValue()));
+
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+}
@@ -0,0 +1,174 @@
+package com.numarics.game.controller;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static com.numarics.game.client.AbstractPlayerClient.INSTANCE_PREFIX;
+import static io.restassured.RestAssured.given;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThan;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@DisplayName("Player client hedging")
+@AutoConfigureWireMock(port = 8081)
+@TestPropertySource(properties = {
+        "player-service.client.mode=async",
+        "player-service.client.hedge.enabled=true",
+        "player-service.client.hedge.minDelay=200ms"})
+public class PlayerClientHedgingIT extends HttpBasedTest {
+
+    private static final String OPERATION = "getGamesByPlayerName";
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    BulkheadRegistry bulkheadRegistry;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, slow answer hedged")
+    void searchByPlayerName_okSlowAnswerHedged() throws JSONException {
+        var game = createGame();
+        String playerName = make();
+        String scenario = UUID.randomUUID().toString();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs(STARTED)
+                .willReturn(gameSearchResponse(game).withFixedDelay(5_000))
+                .willSetStateTo("hedged"));
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs("hedged")
+                .willReturn(gameSearchResponse(game)));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .time(lessThan(5_000L))
+                .body("id", contains(game.getId().intValue()));
+
+        verify(2, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, failed attempt outlived by its hedge")
+    void searchByPlayerName_okFailedAttemptOutlivedByHedge() throws JSONException {
+        var game = createGame();
+        String playerName = make();
+        String scenario = UUID.randomUUID().toString();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse()
+                        .withStatus(SERVICE_UNAVAILABLE.value())
+                        .withFixedDelay(300))
+                .willSetStateTo("hedged"));
+        // Still below the minimum hedge delay, so the p95 other tests hedge by stays at that minimum
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .inScenario(scenario)
+                .whenScenarioStateIs("hedged")
+                .willReturn(gameSearchResponse(game).withFixedDelay(150)));
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(OK.value())
+                    .body("id", contains(game.getId().intValue()));
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + OPERATION).reset();
+        }
+
+        verify(2, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - internal server error, hedges rejected by a full bulkhead")
+    void searchByPlayerName_internalServerErrorHedgesRejectedByFullBulkhead() {
+        String playerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse()
+                        .withStatus(SERVICE_UNAVAILABLE.value())
+                        .withFixedDelay(300)));
+        // One permit left, taken by each attempt until it fails, so none of the hedges gets one
+        var bulkhead = bulkheadRegistry.bulkhead(INSTANCE_PREFIX + OPERATION);
+        int permits = bulkhead.getBulkheadConfig().getMaxConcurrentCalls() - 1;
+        for (int i = 0; i < permits; i++) {
+            bulkhead.acquirePermission();
+        }
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", playerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            for (int i = 0; i < permits; i++) {
+                bulkhead.onComplete();
+            }
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + OPERATION).reset();
+        }
+
+        verify(appProperties.getPlayerServiceRetryMaxAttempts(),
+                getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    Game createGame() {
+        return gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+    }
+
+    static ResponseDefinitionBuilder gameSearchResponse(Game game) throws JSONException {
+        return aResponse()
+                .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                .withBody(new JSONObject()
+                        .put("games", new JSONArray().put(game.getId()))
+                        .toString());
+    }
+}
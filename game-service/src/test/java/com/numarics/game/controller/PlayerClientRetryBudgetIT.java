@@ -0,0 +1,108 @@
+package com.numarics.game.controller;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.numarics.game.client.AbstractPlayerClient.INSTANCE_PREFIX;
+import static com.numarics.game.client.IdempotentCallPolicy.HEDGES_METRIC;
+import static com.numarics.game.client.IdempotentCallPolicy.RETRIES_METRIC;
+import static com.numarics.game.client.IdempotentCallPolicy.RETRY_BUDGET_METRIC;
+import static com.numarics.game.controller.PlayerClientHedgingIT.gameSearchResponse;
+import static io.restassured.RestAssured.given;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.*;
+
+@DisplayName("Player client retry budget")
+@AutoConfigureWireMock(port = 8081)
+@TestPropertySource(properties = {
+        "player-service.client.mode=async",
+        "player-service.client.hedge.enabled=true",
+        "player-service.client.hedge.minDelay=100ms",
+        // A single token that is never refilled
+        "player-service.client.retry.budget.ratio=0",
+        "player-service.client.retry.budget.minPerSecond=0",
+        "player-service.client.retry.budget.maxTokens=1"})
+public class PlayerClientRetryBudgetIT extends HttpBasedTest {
+
+    private static final String OPERATION = "getGamesByPlayerName";
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Search by player name - retries and hedges stop once the budget is spent")
+    void searchByPlayerName_retriesAndHedgesStopOnceBudgetSpent() throws JSONException {
+        var game = gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+        String failingPlayerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + failingPlayerName + "/games"))
+                .willReturn(aResponse().withStatus(SERVICE_UNAVAILABLE.value())));
+        String slowPlayerName = make();
+        stubFor(WireMock.get(urlEqualTo("/player/" + slowPlayerName + "/games"))
+                .willReturn(gameSearchResponse(game).withFixedDelay(300)));
+
+        try {
+            given()
+                    .headers(defaultHeaders())
+                    .when()
+                    .param("playerName", failingPlayerName)
+                    .get(url(GAMES_URI))
+                    .then()
+                    .statusCode(INTERNAL_SERVER_ERROR.value());
+        } finally {
+            circuitBreakerRegistry.circuitBreaker(INSTANCE_PREFIX + OPERATION).reset();
+        }
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", slowPlayerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value());
+
+        // The only token went to the first retry
+        verify(2, getRequestedFor(urlEqualTo("/player/" + failingPlayerName + "/games")));
+        verify(1, getRequestedFor(urlEqualTo("/player/" + slowPlayerName + "/games")));
+        assertThat(count(RETRIES_METRIC)).isEqualTo(1);
+        assertThat(count(HEDGES_METRIC)).isEqualTo(1);
+        assertThat(meterRegistry.get(RETRY_BUDGET_METRIC).gauge().value()).isZero();
+    }
+
+    double count(String name) {
+        return meterRegistry.get(name)
+                .tags("operation", OPERATION, "outcome", "budget_exhausted")
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,9 @@
+package com.numarics.game.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("Player game replica - async player client")
+@TestPropertySource(properties = "player-service.client.mode=async")
+public class PlayerGameReplicaAsyncIT extends PlayerGameReplicaIT {
+}
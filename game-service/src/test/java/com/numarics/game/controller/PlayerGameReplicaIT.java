@@ -0,0 +1,286 @@
+package com.numarics.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.numarics.game.HttpBasedTest;
+import com.numarics.game.client.dto.PlayerChangeDto;
+import com.numarics.game.client.dto.PlayerChangeLogHeaderDto;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.repository.GameRepository;
+import com.numarics.game.service.PlayerGameReplica;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.GAME_REMOVED;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_CHANGED;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_DELETED;
+import static io.restassured.RestAssured.given;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@DisplayName("Player game replica")
+@AutoConfigureWireMock(port = 8081)
+@TestPropertySource(properties = {
+        "game.playerReplica.enabled=true",
+        // Only the polls made by the test run, against a log no earlier run has written
+        "game.playerReplica.pollInterval=PT1H",
+        "player-service.changes.file=target/player-changes-${random.uuid}.ndjson",
+        "game.playerReplica.snapshotPageSize=" + PlayerGameReplicaIT.SNAPSHOT_PAGE_SIZE})
+public class PlayerGameReplicaIT extends HttpBasedTest {
+
+    static final int SNAPSHOT_PAGE_SIZE = 2;
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    PlayerGameReplica playerGameReplica;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void setUp() {
+        startWireMockServer();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        stopWireMockServer();
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, served from the snapshot and later changes")
+    void searchByPlayerName_okServedFromReplica() throws IOException {
+        String playerName = make();
+        var snapshotGame = createGame();
+        var changedGame = createGame();
+        String epoch = startLog();
+        stubSnapshot(epoch, 1, new PlayerDetailsDto(1L, playerName, snapshotGame.getId()));
+        appendToLog(new PlayerChangeDto(1, PLAYER_CHANGED, 1L, playerName, snapshotGame.getId()),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 2L, playerName, changedGame.getId()));
+
+        sync();
+
+        searchByPlayerName(playerName, snapshotGame, changedGame);
+        verify(0, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, deleted players and removed games dropped from the replica")
+    void searchByPlayerName_okDeletionsApplied() throws IOException {
+        String deletedName = make();
+        String sharedName = make();
+        var game = createGame();
+        var removedGame = createGame();
+        String epoch = startLog();
+        stubSnapshot(epoch, 0,
+                new PlayerDetailsDto(1L, deletedName, game.getId()),
+                new PlayerDetailsDto(2L, sharedName, removedGame.getId()),
+                new PlayerDetailsDto(3L, sharedName, removedGame.getId()),
+                new PlayerDetailsDto(4L, make(), null));
+        appendToLog(new PlayerChangeDto(1, PLAYER_DELETED, 1L, null, null),
+                new PlayerChangeDto(2, PLAYER_DELETED, 2L, null, null),
+                new PlayerChangeDto(3, GAME_REMOVED, null, null, removedGame.getId()),
+                new PlayerChangeDto(4, GAME_REMOVED, null, null, game.getId()),
+                new PlayerChangeDto(5, PLAYER_DELETED, 4L, null, null),
+                new PlayerChangeDto(6, PLAYER_DELETED, 5L, null, null));
+
+        sync();
+
+        // A search without any game ids is not filtered by player, so the replica is asked directly
+        assertThat(playerGameReplica.getGameIds(deletedName)).contains(List.of());
+        assertThat(playerGameReplica.getGameIds(sharedName)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, change log without its header left to player-service")
+    void searchByPlayerName_okLogWithoutHeader() throws IOException {
+        String playerName = make();
+        var game = createGame();
+        Files.write(appProperties.getPlayerServiceChangesFile(),
+                List.of(objectMapper.writeValueAsString(new PlayerChangeDto(1, PLAYER_CHANGED, 1L, playerName,
+                        game.getId()))));
+        stubSnapshot(UUID.randomUUID().toString(), 0);
+        stubPlayerGames(playerName, game);
+
+        sync();
+
+        searchByPlayerName(playerName, game);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, change log still empty left to player-service")
+    void searchByPlayerName_okEmptyLog() throws IOException {
+        String playerName = make();
+        var game = createGame();
+        Files.write(appProperties.getPlayerServiceChangesFile(), new byte[0]);
+        stubSnapshot(UUID.randomUUID().toString(), 0);
+        stubPlayerGames(playerName, game);
+
+        sync();
+
+        searchByPlayerName(playerName, game);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, replica resynced after player-service restarted")
+    void searchByPlayerName_okResyncedAfterRestart() throws IOException {
+        String playerName = make();
+        var game = createGame();
+        var movedToGame = createGame();
+        stubSnapshot(startLog(), 0, new PlayerDetailsDto(1L, playerName, game.getId()));
+        sync();
+
+        // The new log already reaches past the offset read in the old one
+        String epoch = startLog();
+        stubSnapshot(epoch, 0);
+        appendToLog(new PlayerChangeDto(1, PLAYER_CHANGED, 2L, make(), game.getId()),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 1L, playerName, movedToGame.getId()));
+        stubPlayerGames(playerName, movedToGame);
+        playerGameReplica.poll();
+
+        searchByPlayerName(playerName, movedToGame);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+
+        playerGameReplica.poll();
+
+        searchByPlayerName(playerName, movedToGame);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, replica resynced after missing changes")
+    void searchByPlayerName_okResyncedAfterMissingChanges() throws IOException {
+        String playerName = make();
+        var game = createGame();
+        String epoch = startLog();
+        stubSnapshot(epoch, 0);
+        appendToLog(new PlayerChangeDto(2, PLAYER_CHANGED, 1L, playerName, game.getId()));
+        stubPlayerGames(playerName, game);
+        sync();
+
+        searchByPlayerName(playerName, game);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+
+        stubSnapshot(epoch, 2, new PlayerDetailsDto(1L, playerName, game.getId()));
+        playerGameReplica.poll();
+
+        searchByPlayerName(playerName, game);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    @Test
+    @DisplayName("Search by player name - ok, snapshot paged across a restart left to player-service")
+    void searchByPlayerName_okSnapshotPagedAcrossRestart() throws IOException {
+        String playerName = make();
+        var game = createGame();
+        String epoch = startLog();
+        stubSnapshotPage(null, new PlayerSnapshotDto(epoch, 0, List.of(
+                new PlayerDetailsDto(1L, playerName, game.getId()),
+                new PlayerDetailsDto(2L, make(), null))));
+        stubSnapshotPage(2L, new PlayerSnapshotDto(UUID.randomUUID().toString(), 0, List.of()));
+        stubPlayerGames(playerName, game);
+
+        sync();
+
+        searchByPlayerName(playerName, game);
+        verify(1, getRequestedFor(urlEqualTo("/player/" + playerName + "/games")));
+    }
+
+    void sync() {
+        // A replica still reading another test's log sees the restart on the first poll and resyncs on the second
+        playerGameReplica.poll();
+        playerGameReplica.poll();
+    }
+
+    void searchByPlayerName(String playerName, Game... games) {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("playerName", playerName)
+                .get(url(GAMES_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("id", equalTo(Arrays.stream(games)
+                        .map(game -> game.getId().intValue())
+                        .toList()));
+    }
+
+    String startLog() throws IOException {
+        String epoch = UUID.randomUUID().toString();
+        Files.write(appProperties.getPlayerServiceChangesFile(),
+                List.of(objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(epoch))));
+
+        return epoch;
+    }
+
+    void appendToLog(PlayerChangeDto... changes) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (var change : changes) {
+            lines.add(objectMapper.writeValueAsString(change));
+        }
+        Files.write(appProperties.getPlayerServiceChangesFile(), lines, APPEND);
+    }
+
+    void stubSnapshot(String epoch, long sequence, PlayerDetailsDto... players) throws IOException {
+        // Paged the way the replica reads it, each page after the last id of the one before
+        Long afterId = null;
+        for (int from = 0; ; from += SNAPSHOT_PAGE_SIZE) {
+            var page = List.of(players).subList(from, Math.min(from + SNAPSHOT_PAGE_SIZE, players.length));
+            stubSnapshotPage(afterId, new PlayerSnapshotDto(epoch, sequence, page));
+            if (page.size() < SNAPSHOT_PAGE_SIZE) {
+                return;
+            }
+            afterId = page.get(SNAPSHOT_PAGE_SIZE - 1).id();
+        }
+    }
+
+    void stubSnapshotPage(Long afterId, PlayerSnapshotDto page) throws IOException {
+        stubFor(WireMock.get(urlPathEqualTo("/player/snapshot"))
+                .withQueryParam("afterId", afterId == null ? absent() : WireMock.equalTo(afterId.toString()))
+                .withQueryParam("limit", WireMock.equalTo(String.valueOf(SNAPSHOT_PAGE_SIZE)))
+                .willReturn(aResponse()
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody(objectMapper.writeValueAsString(page))));
+    }
+
+    void stubPlayerGames(String playerName, Game game) {
+        stubFor(WireMock.get(urlEqualTo("/player/" + playerName + "/games"))
+                .willReturn(aResponse()
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("{\"games\": [%d]}".formatted(game.getId()))));
+    }
+
+    Game createGame() {
+        return gameRepository.save(new Game()
+                .setName(make())
+                .setStatus(Game.Status.NEW));
+    }
+}
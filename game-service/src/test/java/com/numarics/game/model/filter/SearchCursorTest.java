@@ -0,0 +1,57 @@
+package com.numarics.game.model.filter;
+
+import com.numarics.game.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static com.numarics.game.TestUtil.generateId;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("Encode and decode - ok")
+    void encodeAndDecode_ok() {
+        // Given
+        Long id = generateId();
+
+        // When
+        var result = SearchCursor.decode(SearchCursor.encode(id));
+
+        // Then
+        assertThat(result).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("Decode - ok, no cursor")
+    void decode_okNoCursor() {
+        assertThat(SearchCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Decode - not Base64")
+    void decode_notBase64() {
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode("%" + make()));
+    }
+
+    @Test
+    @DisplayName("Decode - unknown format")
+    void decode_unknownFormat() {
+        var cursor = Base64.getUrlEncoder().encodeToString(make().getBytes(UTF_8));
+
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(cursor));
+    }
+
+    @Test
+    @DisplayName("Decode - not a number")
+    void decode_notANumber() {
+        var cursor = Base64.getUrlEncoder().encodeToString(("id:" + make()).getBytes(UTF_8));
+
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(cursor));
+    }
+}
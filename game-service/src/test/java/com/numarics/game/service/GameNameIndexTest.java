@@ -0,0 +1,249 @@
+package com.numarics.game.service;
+
+import com.numarics.game.model.dto.GameDetailsDto;
+import com.numarics.game.repository.GameRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static com.numarics.game.model.entity.Game.PlayerStatus.LINKED;
+import static com.numarics.game.model.entity.Game.Status.NEW;
+import static com.numarics.game.service.GameNameIndex.MAX_MERGED_NAMES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameNameIndexTest {
+
+    private static final int LIMIT = 10;
+
+    @Mock
+    GameRepository gameRepository;
+
+    SimpleMeterRegistry meterRegistry;
+
+    GameNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new GameNameIndex(gameRepository, TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Rebuild - ok, existing games indexed")
+    void rebuild_okExistingGamesIndexed() {
+        // Given
+        index.add(9L, "Stale");
+
+        // When
+        when(gameRepository.streamDetails(any())).thenReturn(Stream.of(game(1L, "Chess"), game(2L, null)));
+        index.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(index.find("ch", null, null, LIMIT)).containsExactly(1L);
+        assertThat(meterRegistry.get(GameNameIndex.SIZE_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Find - ok, prefix matched ignoring case")
+    void find_okPrefixMatchedIgnoringCase() {
+        // Given
+        index.add(3L, "Chess");
+        index.add(1L, "checkers");
+        index.add(2L, "Go");
+        index.add(4L, "CHESS");
+
+        // When
+        var result = index.find("CHE", null, null, LIMIT);
+
+        // Then
+        assertThat(result).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, paged after id")
+    void find_okPagedAfterId() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            index.add(id, "game-" + id);
+        }
+
+        // When
+        var result = index.find("game", null, 2L, 2);
+
+        // Then
+        assertThat(result).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, substring matched ignoring case")
+    void find_okSubstringMatchedIgnoringCase() {
+        // Given
+        index.add(1L, "Grand Chess Tour");
+        index.add(2L, "chess");
+        index.add(3L, "Checkers");
+        // Contains every trigram of "chess" but not the fragment itself
+        index.add(4L, "ches-hess");
+
+        // When
+        var result = index.find(null, "CHESS", null, LIMIT);
+
+        // Then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, substring matched through smallest posting set")
+    void find_okSubstringMatchedThroughSmallestPostingSet() {
+        // Given
+        index.add(1L, "abcd");
+        index.add(2L, "abcx");
+        index.add(3L, "xbcd");
+        index.add(4L, "zabc");
+
+        // When
+        var rareLastGram = index.find(null, "abcd", null, LIMIT);
+        var rareFirstGram = index.find(null, "zabc", null, LIMIT);
+        var unknownGram = index.find(null, "bcda", null, LIMIT);
+
+        // Then
+        assertThat(rareLastGram).containsExactly(1L);
+        assertThat(rareFirstGram).containsExactly(4L);
+        assertThat(unknownGram).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Find - ok, prefix and substring combined")
+    void find_okPrefixAndSubstringCombined() {
+        // Given
+        index.add(1L, "Chess Open");
+        index.add(2L, "Open Chess");
+
+        // When
+        var result = index.find("chess", "open", null, LIMIT);
+
+        // Then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, postings of prefix matched names merged by id up to the limit")
+    void find_okPrefixPostingsMergedUpToLimit() {
+        // Given
+        index.add(5L, "game-b");
+        index.add(1L, "game-c");
+        index.add(4L, "game-a");
+        index.add(2L, "game-b");
+        index.add(6L, "game-c");
+        index.add(3L, "game-a");
+
+        // When
+        var firstPage = index.find("game", null, null, 4);
+        var nextPage = index.find("game", null, 4L, 4);
+
+        // Then
+        assertThat(firstPage).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(nextPage).containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, prefix of many names scanned by id up to the limit")
+    void find_okBroadPrefixScannedUpToLimit() {
+        // Given
+        for (long id = 1; id <= (MAX_MERGED_NAMES + 2) * 2; id++) {
+            index.add(id, (id % 2 == 0 ? "game-" : "other-") + id);
+        }
+        index.remove(4L);
+
+        // When
+        var firstPage = index.find("game", null, null, 3);
+        var nextPage = index.find("game", null, 6L, 3);
+
+        // Then
+        assertThat(firstPage).containsExactly(2L, 6L, 8L);
+        assertThat(nextPage).containsExactly(8L, 10L, 12L);
+    }
+
+    @Test
+    @DisplayName("Find - ok, substring matches paged after id up to the limit")
+    void find_okSubstringPagedUpToLimit() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            index.add(id, "chess-" + id);
+        }
+
+        // When
+        var result = index.find(null, "hess", 1L, 3);
+
+        // Then
+        assertThat(result).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Remove - ok, shared name and trigrams kept for other games")
+    void remove_okSharedEntriesKept() {
+        // Given
+        index.add(1L, "Chess");
+        index.add(2L, "Chess");
+        index.add(3L, "Go");
+
+        // When
+        index.remove(1L);
+        index.remove(3L);
+        index.remove(4L);
+
+        // Then
+        assertThat(index.find("chess", null, null, LIMIT)).containsExactly(2L);
+        assertThat(index.find(null, "hes", null, LIMIT)).containsExactly(2L);
+        assertThat(index.find("go", null, null, LIMIT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Add - ok, renamed game reindexed")
+    void add_okRenamedGameReindexed() {
+        // Given
+        index.add(1L, "Chess");
+
+        // When
+        index.add(1L, "Go");
+
+        // Then
+        assertThat(index.find(null, "che", null, LIMIT)).isEmpty();
+        assertThat(index.find("go", null, null, LIMIT)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Add - ok, applied after commit")
+    void add_okAppliedAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.add(1L, "Chess");
+            var beforeCommit = index.find("chess", null, null, LIMIT);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(index.find("chess", null, null, LIMIT)).containsExactly(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static GameDetailsDto game(Long id, String name) {
+        return new GameDetailsDto(id, name, NEW, LINKED, null, null);
+    }
+}
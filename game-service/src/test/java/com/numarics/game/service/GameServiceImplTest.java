@@ -1,75 +1,118 @@
 package com.numarics.game.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.numarics.game.client.PlayerClient;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.exception.BadRequestException;
 import com.numarics.game.exception.ResourceNotFoundException;
+import com.numarics.game.model.dto.GameDetailsDto;
 import com.numarics.game.model.dto.GameSearchResponseDto;
 import com.numarics.game.model.dto.StartGameRequestDto;
 import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
 import com.numarics.game.model.filter.GameSearchFilter;
 import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.numarics.game.TestUtil.generateId;
+import static com.numarics.game.model.entity.Game.PlayerStatus.LINKED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.PENDING;
 import static com.numarics.game.model.entity.Game.Status.DROPPED;
 import static com.numarics.game.model.entity.Game.Status.NEW;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static net.bytebuddy.utility.RandomString.make;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GameServiceImplTest {
 
+    private static final int PAGE_SIZE = 20;
+
     @Mock
     GameRepository gameRepository;
 
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
     @Mock
     PlayerClient playerClient;
 
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    GameNameIndex gameNameIndex;
+
+    @Mock
+    PlayerGameReplica playerGameReplica;
+
+    @Mock
+    GameStartSaga gameStartSaga;
+
+    AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+
     GameService gameService;
 
     @BeforeEach
     void setUp() {
-        gameService = new GameServiceImpl(gameRepository, playerClient);
+        playerGamesCache = Caffeine.newBuilder().buildAsync();
+        gameService = new GameServiceImpl(gameRepository, outboxEventRepository, playerClient, appProperties,
+                TransactionOperations.withoutTransaction(), playerGamesCache, gameNameIndex, playerGameReplica,
+                gameStartSaga);
     }
 
     @Test
-    @DisplayName("Get by ID - ok, found")
-    void getById_okFound() {
+    @DisplayName("Get details - ok, found")
+    void getDetails_okFound() {
         // Given
         Long id = generateId();
-        var game = mock(Game.class);
+        var game = mock(GameDetailsDto.class);
 
         // When
-        when(gameRepository.findById(id)).thenReturn(Optional.of(game));
+        when(gameRepository.findDetailsById(id)).thenReturn(Optional.of(game));
 
-        var result = gameService.getById(id);
+        var result = gameService.getDetails(id);
 
         // Then
         assertThat(result).isEqualTo(game);
     }
 
     @Test
-    @DisplayName("Get by ID - not found")
-    void getById_notFound() {
+    @DisplayName("Get details - not found")
+    void getDetails_notFound() {
         // Given
         Long id = generateId();
 
         // When
-        when(gameRepository.findById(id)).thenReturn(Optional.empty());
+        when(gameRepository.findDetailsById(id)).thenReturn(Optional.empty());
 
         // Then
-        assertThrows(ResourceNotFoundException.class, () -> gameService.getById(id));
+        assertThrows(ResourceNotFoundException.class, () -> gameService.getDetails(id));
     }
 
     @Test
@@ -110,6 +153,7 @@ class GameServiceImplTest {
         // Given
         Long id = generateId();
         var game = mock(Game.class);
+        var event = ArgumentCaptor.forClass(OutboxEvent.class);
 
         // When
         when(gameRepository.findById(id)).thenReturn(Optional.of(game));
@@ -118,7 +162,13 @@ class GameServiceImplTest {
 
         // Then
         verify(gameRepository, times(1)).delete(game);
+        verify(outboxEventRepository, times(1)).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(OutboxEvent.Type.GAME_REMOVED);
+        assertThat(event.getValue().getAggregateId()).isEqualTo(id);
+        assertThat(event.getValue().getNextAttemptAt()).isNotNull();
+        verify(gameNameIndex, times(1)).remove(id);
         verifyNoMoreInteractions(gameRepository);
+        verifyNoInteractions(playerClient);
     }
 
     @Test
@@ -129,19 +179,66 @@ class GameServiceImplTest {
         var filter = new GameSearchFilter()
                 .setPlayerName(playerName);
         Long gameId = generateId();
-        var game = mock(Game.class);
+        var games = new SliceImpl<>(List.of(mock(GameDetailsDto.class)));
 
         // When
-        when(playerClient.getGamesByPlayerName(playerName)).thenReturn(new GameSearchResponseDto(List.of(gameId)));
-        when(gameRepository.search(filter)).thenReturn(List.of(game));
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(playerClient.getGamesByPlayerName(playerName))
+                .thenReturn(completedFuture(new GameSearchResponseDto(List.of(gameId))));
+        when(gameRepository.searchDetails(filter)).thenReturn(games);
         var result = gameService.search(filter);
 
-
         // Then
-        assertThat(result).isEqualTo(List.of(game));
+        assertThat(result).isCompletedWithValue(games);
+        assertThat(filter.getGameIds()).isEqualTo(List.of(gameId));
+        assertThat(filter.getLimit()).isEqualTo(PAGE_SIZE);
         verifyNoMoreInteractions(playerClient, gameRepository);
     }
 
+    @Test
+    @DisplayName("Search - ok, player games served from replica")
+    void search_okPlayerGamesServedFromReplica() {
+        // Given
+        String playerName = make();
+        var filter = new GameSearchFilter()
+                .setPlayerName(playerName);
+        Long gameId = generateId();
+        var games = new SliceImpl<>(List.of(mock(GameDetailsDto.class)));
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(playerGameReplica.getGameIds(playerName)).thenReturn(Optional.of(List.of(gameId)));
+        when(gameRepository.searchDetails(filter)).thenReturn(games);
+        var result = gameService.search(filter);
+
+        // Then
+        assertThat(result).isCompletedWithValue(games);
+        assertThat(filter.getGameIds()).isEqualTo(List.of(gameId));
+        assertThat(playerGamesCache.synchronous().asMap()).isEmpty();
+        verifyNoInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - ok, player games served from cache")
+    void search_okPlayerGamesServedFromCache() {
+        // Given
+        String playerName = make();
+        Long gameId = generateId();
+        var games = new SliceImpl<>(List.of(mock(GameDetailsDto.class)));
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(playerClient.getGamesByPlayerName(playerName))
+                .thenReturn(completedFuture(new GameSearchResponseDto(List.of(gameId))));
+        when(gameRepository.searchDetails(any())).thenReturn(games);
+        gameService.search(new GameSearchFilter().setPlayerName(playerName)).join();
+        var result = gameService.search(new GameSearchFilter().setPlayerName(playerName));
+
+        // Then
+        assertThat(result).isCompletedWithValue(games);
+        verify(playerClient, times(1)).getGamesByPlayerName(playerName);
+    }
+
     @Test
     @DisplayName("Search - ok, not found by name")
     void search_okNotFoundByName() {
@@ -151,51 +248,311 @@ class GameServiceImplTest {
                 .setPlayerName(playerName);
 
         // When
-        when(playerClient.getGamesByPlayerName(playerName)).thenReturn(new GameSearchResponseDto(emptyList()));
-        when(gameRepository.search(filter)).thenReturn(emptyList());
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(playerClient.getGamesByPlayerName(playerName))
+                .thenReturn(completedFuture(new GameSearchResponseDto(emptyList())));
+        var result = gameService.search(filter);
+
+        // Then
+        assertThat(result).isCompletedWithValueMatching(Slice::isEmpty);
+        verifyNoMoreInteractions(playerClient);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Search - ok, requested limit kept")
+    void search_okRequestedLimitKept() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setLimit(PAGE_SIZE - 1);
+        var games = new SliceImpl<GameDetailsDto>(emptyList());
+
+        // When
+        when(appProperties.getSearchMaxPageSize()).thenReturn(PAGE_SIZE);
+        when(gameRepository.searchDetails(filter)).thenReturn(games);
+        var result = gameService.search(filter);
+
+        // Then
+        assertThat(result).isCompletedWithValue(games);
+        assertThat(filter.getLimit()).isEqualTo(PAGE_SIZE - 1);
+        assertThat(filter.getGameIds()).isEmpty();
+        verifyNoInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - ok, limit capped at max page size")
+    void search_okLimitCapped() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setLimit(PAGE_SIZE + 1);
+
+        // When
+        when(appProperties.getSearchMaxPageSize()).thenReturn(PAGE_SIZE);
+        when(gameRepository.searchDetails(filter)).thenReturn(new SliceImpl<>(emptyList()));
+        gameService.search(filter);
+
+        // Then
+        assertThat(filter.getLimit()).isEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Search - invalid limit")
+    void search_invalidLimit() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setLimit(0);
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.search(filter));
+        verifyNoInteractions(gameRepository, playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - ok, found by name prefix")
+    void search_okFoundByNamePrefix() {
+        // Given
+        String prefix = make();
+        Long afterId = generateId();
+        Long gameId = afterId + 1;
+        var filter = new GameSearchFilter()
+                .setNamePrefix(prefix)
+                .setAfterId(afterId);
+        var games = new SliceImpl<>(List.of(mock(GameDetailsDto.class)));
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(gameNameIndex.find(prefix, null, afterId, PAGE_SIZE + 1)).thenReturn(List.of(gameId));
+        when(gameRepository.searchDetails(filter)).thenReturn(games);
+        var result = gameService.search(filter);
+
+        // Then
+        assertThat(result).isCompletedWithValue(games);
+        assertThat(filter.getGameIds()).isEqualTo(List.of(gameId));
+        verifyNoInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - ok, nothing matches name fragment")
+    void search_okNothingMatchesNameFragment() {
+        // Given
+        String fragment = make();
+        var filter = new GameSearchFilter()
+                .setNameContains(fragment);
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+        when(gameNameIndex.find(null, fragment, null, PAGE_SIZE + 1)).thenReturn(emptyList());
         var result = gameService.search(filter);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result.join()).isEmpty();
+        verifyNoInteractions(gameRepository, playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - name fragment too short")
+    void search_nameFragmentTooShort() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setNameContains("ab");
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.search(filter));
+        verifyNoInteractions(gameNameIndex, gameRepository);
+    }
+
+    @Test
+    @DisplayName("Search - name prefix empty")
+    void search_namePrefixEmpty() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setNamePrefix("");
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.search(filter));
+        verifyNoInteractions(gameNameIndex, gameRepository);
+    }
+
+    @Test
+    @DisplayName("Search - name pattern combined with player name")
+    void search_namePatternCombinedWithPlayerName() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setNamePrefix(make())
+                .setPlayerName(make());
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.search(filter));
+        verifyNoInteractions(gameNameIndex, gameRepository, playerClient);
+    }
+
+    @Test
+    @DisplayName("Search - name pattern combined with status or name")
+    void search_namePatternCombinedWithStatusOrName() {
+        // Given
+        var statusFilter = new GameSearchFilter()
+                .setNamePrefix(make())
+                .setStatus(NEW);
+        var nameFilter = new GameSearchFilter()
+                .setNameContains(make())
+                .setName(make());
+
+        // When
+        when(appProperties.getSearchDefaultPageSize()).thenReturn(PAGE_SIZE);
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.search(statusFilter));
+        assertThrows(BadRequestException.class, () -> gameService.search(nameFilter));
+        verifyNoInteractions(gameNameIndex, gameRepository, playerClient);
+    }
+
+    @Test
+    @DisplayName("Stream search - name pattern")
+    void streamSearch_namePattern() {
+        // Given
+        var prefixFilter = new GameSearchFilter()
+                .setNamePrefix(make());
+        var fragmentFilter = new GameSearchFilter()
+                .setNameContains(make());
+
+        // Then
+        assertThrows(BadRequestException.class, () -> gameService.streamSearch(prefixFilter));
+        assertThrows(BadRequestException.class, () -> gameService.streamSearch(fragmentFilter));
+        verifyNoInteractions(gameNameIndex, gameRepository, playerClient);
+    }
+
+    @Test
+    @DisplayName("Stream search - ok, found by player name")
+    void streamSearch_okFoundByPlayerName() {
+        // Given
+        String playerName = make();
+        Long gameId = generateId();
+        var filter = new GameSearchFilter()
+                .setPlayerName(playerName);
+        var game = mock(GameDetailsDto.class);
+        var streamed = new ArrayList<GameDetailsDto>();
+
+        // When
+        when(playerClient.getGamesByPlayerName(playerName))
+                .thenReturn(completedFuture(new GameSearchResponseDto(List.of(gameId))));
+        when(gameRepository.streamDetails(filter)).thenReturn(Stream.of(game));
+        var games = gameService.streamSearch(filter).join();
+        verifyNoInteractions(gameRepository);
+        games.forEach(streamed::add);
+
+        // Then
+        assertThat(streamed).containsExactly(game);
+        assertThat(filter.getGameIds()).isEqualTo(List.of(gameId));
         verifyNoMoreInteractions(playerClient, gameRepository);
     }
 
     @Test
-    @DisplayName("Start game - ok, player already registered")
-    void startGame_okPlayerAlreadyRegistered() {
+    @DisplayName("Stream search - ok, nothing streamed for player without games")
+    void streamSearch_okPlayerWithoutGames() {
         // Given
-        var dto = mock(StartGameRequestDto.class);
-        Long playerId = generateId();
-        var game = mock(Game.class);
+        String playerName = make();
+        var filter = new GameSearchFilter()
+                .setPlayerName(playerName);
+        var streamed = new ArrayList<GameDetailsDto>();
+
+        // When
+        when(playerClient.getGamesByPlayerName(playerName))
+                .thenReturn(completedFuture(new GameSearchResponseDto(emptyList())));
+        gameService.streamSearch(filter).join().forEach(streamed::add);
+
+        // Then
+        assertThat(streamed).isEmpty();
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Stream search - ok, without player name")
+    void streamSearch_okWithoutPlayerName() {
+        // Given
+        var filter = new GameSearchFilter()
+                .setStatus(NEW);
+        var streamed = new ArrayList<GameDetailsDto>();
+
+        // When
+        when(gameRepository.streamDetails(filter)).thenReturn(Stream.empty());
+        gameService.streamSearch(filter).join().forEach(streamed::add);
+
+        // Then
+        assertThat(streamed).isEmpty();
+        assertThat(filter.getGameIds()).isEmpty();
+        verifyNoInteractions(playerClient, appProperties);
+    }
+
+    @Test
+    @DisplayName("Start game - ok, saved pending with its player link recorded")
+    void startGame_okSavedPendingAndPlayerLinkedAfterwards() {
+        // Given
+        var dto = new StartGameRequestDto(make(), generateId());
         Long gameId = generateId();
 
         // When
-        when(dto.playerId()).thenReturn(playerId);
-        when(gameRepository.save(any())).thenReturn(game);
-        when(game.getId()).thenReturn(gameId);
-        gameService.startGame(dto);
+        when(gameRepository.save(any(Game.class)))
+                .thenAnswer(invocationOnMock -> invocationOnMock.<Game>getArgument(0).setId(gameId));
+        var result = gameService.startGame(dto);
 
         // Then
-        verify(playerClient, times(1)).updatePlayerGame(playerId, gameId);
-        verifyNoMoreInteractions(gameRepository, playerClient);
+        assertThat(result).isCompletedWithValueMatching(game -> game.getId().equals(gameId)
+                && game.getName().equals(dto.name())
+                && game.getStatus() == NEW
+                && game.getPlayerStatus() == PENDING);
+        verify(gameNameIndex, times(1)).add(gameId, dto.name());
+        verify(gameStartSaga, times(1)).start(result.join(), dto.playerId());
+        verifyNoInteractions(playerClient);
     }
 
     @Test
-    @DisplayName("Start game - ok, player not registered")
-    void startGame_okPlayerNotRegistered() {
+    @DisplayName("Start games - ok, saved pending with their player links recorded")
+    void startGames_okSavedPendingWithPlayerLinksRecorded() {
         // Given
-        var dto = mock(StartGameRequestDto.class);
-        var game = mock(Game.class);
         Long gameId = generateId();
+        Long playerId = generateId();
+        var dtos = List.of(
+                new StartGameRequestDto(make(), null),
+                new StartGameRequestDto(make(), playerId));
 
         // When
-        when(dto.playerId()).thenReturn(null);
-        when(gameRepository.save(any())).thenReturn(game);
-        when(game.getId()).thenReturn(gameId);
-        gameService.startGame(dto);
+        whenGamesSavedAssignIdsFrom(gameId);
+
+        var result = gameService.startGames(dtos);
 
         // Then
-        verify(playerClient, times(1)).registerPlayer(gameId);
-        verifyNoMoreInteractions(gameRepository, playerClient);
+        assertThat(result).isCompleted();
+        var games = result.join();
+        assertThat(games)
+                .extracting(Game::getId, Game::getName, Game::getStatus, Game::getPlayerStatus)
+                .containsExactly(
+                        tuple(gameId, dtos.get(0).name(), NEW, PENDING),
+                        tuple(gameId + 1, dtos.get(1).name(), NEW, PENDING));
+        for (int i = 0; i < dtos.size(); i++) {
+            verify(gameNameIndex, times(1)).add(gameId + i, dtos.get(i).name());
+        }
+        verify(gameStartSaga, times(1)).start(games.get(0), null);
+        verify(gameStartSaga, times(1)).start(games.get(1), playerId);
+        verifyNoMoreInteractions(gameRepository);
+        verifyNoInteractions(playerClient);
+    }
+
+    private void whenGamesSavedAssignIdsFrom(Long firstId) {
+        when(gameRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Game> games = invocation.getArgument(0);
+            for (int i = 0; i < games.size(); i++) {
+                games.get(i).setId(firstId + i);
+            }
+            return games;
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,350 @@
+package com.numarics.game.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerGameDto;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import com.numarics.game.model.entity.Game;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.repository.GameRepository;
+import com.numarics.game.repository.OutboxEventRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import static com.numarics.game.TestUtil.generateId;
+import static com.numarics.game.model.entity.Game.PlayerStatus.FAILED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.LINKED;
+import static com.numarics.game.model.entity.Game.PlayerStatus.PENDING;
+import static com.numarics.game.model.entity.Game.Status.DROPPED;
+import static com.numarics.game.model.entity.Game.Status.NEW;
+import static com.numarics.game.model.entity.OutboxEvent.Type.GAME_REMOVED;
+import static com.numarics.game.model.entity.OutboxEvent.Type.LINK_PLAYER;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@ExtendWith(MockitoExtension.class)
+class GameStartSagaTest {
+
+    @Mock
+    GameRepository gameRepository;
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    PlayerClient playerClient;
+
+    AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+
+    GameStartSaga saga;
+
+    @BeforeEach
+    void setUp() {
+        playerGamesCache = Caffeine.newBuilder().buildAsync();
+        saga = new GameStartSaga(gameRepository, outboxEventRepository, playerClient, playerGamesCache);
+    }
+
+    @Test
+    @DisplayName("Start - ok, player link recorded")
+    void start_okPlayerLinkRecorded() {
+        // Given
+        var game = pendingGame();
+        Long playerId = generateId();
+
+        // When
+        saga.start(game, playerId);
+
+        // Then
+        var event = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(LINK_PLAYER);
+        assertThat(event.getValue().getAggregateId()).isEqualTo(game.getId());
+        assertThat(event.getValue().getPlayerId()).isEqualTo(playerId);
+        assertThat(event.getValue().getNextAttemptAt()).isNotNull();
+        verifyNoInteractions(playerClient, gameRepository);
+    }
+
+    @Test
+    @DisplayName("Link players - ok, lone links sent to the plain endpoints")
+    void linkPlayers_okLoneLinksSentToPlainEndpoints() {
+        // Given
+        Long gameId = generateId();
+        Long playerId = generateId();
+        String playerName = make();
+        var newPlayer = linkPlayer(gameId, null);
+        var registeredPlayer = linkPlayer(gameId + 1, playerId);
+        playerGamesCache.put(playerName, completedFuture(new GameSearchResponseDto(List.of(gameId - 1))));
+
+        // When
+        when(playerClient.registerPlayer(gameId)).thenReturn(completedFuture(null));
+        when(playerClient.updatePlayerGame(playerId, gameId + 1))
+                .thenReturn(completedFuture(new PlayerDetailsDto(playerId, playerName, gameId + 1)));
+        var result = saga.linkPlayers(List.of(newPlayer, registeredPlayer));
+
+        // Then
+        assertThat(result).hasSize(2).allSatisfy(link -> assertThat(link).isCompleted());
+        assertThat(playerGamesCache.getIfPresent(playerName)).isNull();
+        verifyNoMoreInteractions(playerClient);
+        verifyNoInteractions(gameRepository, outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Link players - ok, batched links share one call per kind")
+    void linkPlayers_okBatchedLinksShareOneCallPerKind() {
+        // Given
+        Long gameId = generateId();
+        Long playerId = generateId();
+        String playerName = make();
+        var events = List.of(
+                linkPlayer(gameId, null),
+                linkPlayer(gameId + 1, playerId),
+                linkPlayer(gameId + 2, null),
+                linkPlayer(gameId + 3, playerId + 1));
+        var playerGames = List.of(new PlayerGameDto(playerId, gameId + 1), new PlayerGameDto(playerId + 1, gameId + 3));
+        playerGamesCache.put(playerName, completedFuture(new GameSearchResponseDto(List.of(gameId - 1))));
+
+        // When
+        when(playerClient.registerPlayers(List.of(gameId, gameId + 2))).thenReturn(completedFuture(null));
+        when(playerClient.updatePlayersGame(playerGames)).thenReturn(completedFuture(List.of(
+                new PlayerDetailsDto(playerId, playerName, gameId + 1),
+                new PlayerDetailsDto(playerId + 1, make(), gameId + 3))));
+        var result = saga.linkPlayers(events);
+
+        // Then
+        assertThat(result).hasSize(4).allSatisfy(link -> assertThat(link).isCompleted());
+        assertThat(playerGamesCache.getIfPresent(playerName)).isNull();
+        verifyNoMoreInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Link players - ok, new players only registered")
+    void linkPlayers_okNewPlayersOnlyRegistered() {
+        // Given
+        Long gameId = generateId();
+
+        // When
+        when(playerClient.registerPlayer(gameId)).thenReturn(completedFuture(null));
+        var result = saga.linkPlayers(List.of(linkPlayer(gameId, null)));
+
+        // Then
+        assertThat(result).singleElement().satisfies(link -> assertThat(link).isCompleted());
+        verifyNoMoreInteractions(playerClient);
+        verifyNoInteractions(gameRepository, outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Link players - failed call fails only its own links")
+    void linkPlayers_failedCallFailsOnlyItsOwnLinks() {
+        // Given
+        Long gameId = generateId();
+        Long playerId = generateId();
+        var events = List.of(linkPlayer(gameId, null), linkPlayer(gameId + 1, playerId), linkPlayer(gameId + 2, null));
+
+        // When
+        when(playerClient.registerPlayers(List.of(gameId, gameId + 2)))
+                .thenThrow(CallNotPermittedException.createCallNotPermittedException(
+                        CircuitBreaker.ofDefaults("registerPlayers")));
+        when(playerClient.updatePlayerGame(playerId, gameId + 1))
+                .thenReturn(completedFuture(new PlayerDetailsDto(playerId, make(), gameId + 1)));
+        var result = saga.linkPlayers(events);
+
+        // Then
+        assertThat(result.get(0)).isCompletedExceptionally();
+        assertThat(result.get(1)).isCompleted();
+        assertThat(result.get(2)).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("Link players - rejected batch sent again link by link, unknown player fails only its own")
+    void linkPlayers_rejectedBatchSentAgainLinkByLink() {
+        // Given
+        Long gameId = generateId();
+        Long playerId = generateId();
+        Long unknownPlayerId = playerId + 1;
+        var events = List.of(linkPlayer(gameId, playerId), linkPlayer(gameId + 1, unknownPlayerId));
+        var playerGames = List.of(new PlayerGameDto(playerId, gameId), new PlayerGameDto(unknownPlayerId, gameId + 1));
+
+        // When
+        when(playerClient.updatePlayersGame(playerGames)).thenReturn(failedFuture(notFound()));
+        when(playerClient.updatePlayerGame(playerId, gameId))
+                .thenReturn(completedFuture(new PlayerDetailsDto(playerId, make(), gameId)));
+        when(playerClient.updatePlayerGame(unknownPlayerId, gameId + 1)).thenThrow(notFound());
+        var result = saga.linkPlayers(events);
+
+        // Then
+        assertThat(result.get(0)).isCompleted();
+        assertThat(result.get(1)).isCompletedExceptionally();
+        verifyNoMoreInteractions(playerClient);
+        verifyNoInteractions(gameRepository, outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Link players - rejected registration batch sent again link by link")
+    void linkPlayers_rejectedRegistrationBatchSentAgainLinkByLink() {
+        // Given
+        Long gameId = generateId();
+        var events = List.of(linkPlayer(gameId, null), linkPlayer(gameId + 1, null));
+
+        // When
+        when(playerClient.registerPlayers(List.of(gameId, gameId + 1)))
+                .thenReturn(failedFuture(new CompletionException(badRequest())));
+        when(playerClient.registerPlayer(gameId)).thenReturn(completedFuture(null));
+        when(playerClient.registerPlayer(gameId + 1)).thenReturn(failedFuture(badRequest()));
+        var result = saga.linkPlayers(events);
+
+        // Then
+        assertThat(result.get(0)).isCompleted();
+        assertThat(result.get(1)).isCompletedExceptionally();
+        verifyNoMoreInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Link players - failed batch not sent again while player-service is unreachable")
+    void linkPlayers_failedBatchNotSentAgain() {
+        // Given
+        Long gameId = generateId();
+        var events = List.of(linkPlayer(gameId, null), linkPlayer(gameId + 1, null));
+
+        // When
+        when(playerClient.registerPlayers(List.of(gameId, gameId + 1)))
+                .thenReturn(failedFuture(new ResourceAccessException(make())));
+        var result = saga.linkPlayers(events);
+
+        // Then
+        assertThat(result).hasSize(2).allSatisfy(link -> assertThat(link).isCompletedExceptionally());
+        verifyNoMoreInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Link players - failed, lone link fails with its call")
+    void linkPlayers_failedLoneLink() {
+        // Given
+        Long gameId = generateId();
+        Long playerId = generateId();
+
+        // When
+        when(playerClient.updatePlayerGame(playerId, gameId))
+                .thenReturn(failedFuture(new ResourceAccessException(make())));
+        var result = saga.linkPlayers(List.of(linkPlayer(gameId, playerId)));
+
+        // Then
+        assertThat(result).singleElement().satisfies(link -> assertThat(link).isCompletedExceptionally());
+        verifyNoInteractions(gameRepository, outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Linked - ok, game marked linked")
+    void linked_okGameMarkedLinked() {
+        // Given
+        var game = pendingGame();
+
+        // When
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+        saga.linked(game.getId());
+
+        // Then
+        assertThat(game.getStatus()).isEqualTo(NEW);
+        assertThat(game.getPlayerStatus()).isEqualTo(LINKED);
+        verify(gameRepository, times(1)).save(game);
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Linked - ok, game deleted in the meantime removed from player-service again")
+    void linked_okGameDeletedInTheMeantime() {
+        // Given
+        Long gameId = generateId();
+
+        // When
+        when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+        saga.linked(gameId);
+
+        // Then
+        verifyGameRemovalRecorded(gameId);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Failed - game dropped and removed from player-service")
+    void failed_gameDroppedAndRemoved() {
+        // Given
+        var game = pendingGame();
+
+        // When
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+        saga.failed(game.getId());
+
+        // Then
+        assertThat(game.getStatus()).isEqualTo(DROPPED);
+        assertThat(game.getPlayerStatus()).isEqualTo(FAILED);
+        verify(gameRepository, times(1)).save(game);
+        verifyGameRemovalRecorded(game.getId());
+    }
+
+    @Test
+    @DisplayName("Failed - game deleted in the meantime still removed from player-service")
+    void failed_gameDeletedInTheMeantime() {
+        // Given
+        Long gameId = generateId();
+
+        // When
+        when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+        saga.failed(gameId);
+
+        // Then
+        verifyGameRemovalRecorded(gameId);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    private Game pendingGame() {
+        return new Game()
+                .setId(generateId())
+                .setName(make())
+                .setStatus(NEW)
+                .setPlayerStatus(PENDING);
+    }
+
+    private OutboxEvent linkPlayer(Long gameId, Long playerId) {
+        return new OutboxEvent()
+                .setId(generateId())
+                .setType(LINK_PLAYER)
+                .setAggregateId(gameId)
+                .setPlayerId(playerId);
+    }
+
+    private static HttpClientErrorException notFound() {
+        return HttpClientErrorException.create(NOT_FOUND, make(), null, null, null);
+    }
+
+    private static HttpClientErrorException badRequest() {
+        return HttpClientErrorException.create(BAD_REQUEST, make(), null, null, null);
+    }
+
+    private void verifyGameRemovalRecorded(Long gameId) {
+        var event = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(GAME_REMOVED);
+        assertThat(event.getValue().getAggregateId()).isEqualTo(gameId);
+        assertThat(event.getValue().getNextAttemptAt()).isNotNull();
+    }
+}
@@ -0,0 +1,321 @@
+package com.numarics.game.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.configuration.AppProperties;
+import com.numarics.game.model.dto.GameSearchResponseDto;
+import com.numarics.game.model.entity.OutboxEvent;
+import com.numarics.game.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static com.numarics.game.TestUtil.generateId;
+import static com.numarics.game.configuration.CacheConfig.GAMES_CACHE;
+import static com.numarics.game.model.entity.OutboxEvent.Type.GAME_REMOVED;
+import static com.numarics.game.model.entity.OutboxEvent.Type.LINK_PLAYER;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 20;
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    PlayerClient playerClient;
+
+    @Mock
+    GameStartSaga gameStartSaga;
+
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    AsyncCache<String, GameSearchResponseDto> playerGamesCache;
+
+    CacheManager cacheManager;
+
+    OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        playerGamesCache = Caffeine.newBuilder().buildAsync();
+        cacheManager = new ConcurrentMapCacheManager(GAMES_CACHE);
+        dispatcher = new OutboxDispatcher(outboxEventRepository, playerClient, gameStartSaga, appProperties,
+                playerGamesCache, cacheManager, transactionManager);
+        when(appProperties.getOutboxBatchSize()).thenReturn(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Dispatch - ok, nothing due")
+    void dispatch_okNothingDue() {
+        // When
+        whenDue(emptyList());
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1))
+                .findByTypeAndParkedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(LINK_PLAYER), any(), any());
+        verify(outboxEventRepository, times(1))
+                .findByTypeAndParkedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(GAME_REMOVED), any(), any());
+        verifyNoInteractions(playerClient, gameStartSaga, transactionManager);
+        verifyNoMoreInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Dispatch - ok, delivered events removed and player games evicted")
+    void dispatch_okDeliveredEventsRemoved() {
+        // Given
+        var event = gameRemoved(generateId(), 0);
+        String playerName = make();
+        String otherPlayerName = make();
+        playerGamesCache.put(playerName, completedFuture(new GameSearchResponseDto(List.of(event.getAggregateId()))));
+        playerGamesCache.put(otherPlayerName,
+                completedFuture(new GameSearchResponseDto(List.of(event.getAggregateId() + 1))));
+
+        // When
+        whenDue(List.of(event));
+        when(playerClient.removeGame(event.getAggregateId())).thenReturn(completedFuture(null));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(event.getId()));
+        verify(outboxEventRepository, times(1)).saveAll(emptyList());
+        assertThat(playerGamesCache.synchronous().asMap()).containsOnlyKeys(otherPlayerName);
+    }
+
+    @Test
+    @DisplayName("Dispatch - failed, events rescheduled with backoff")
+    void dispatch_failedEventsRescheduled() {
+        // Given
+        Long gameId = generateId();
+        var failedAsync = gameRemoved(gameId, 0);
+        var failedBlocking = gameRemoved(gameId + 1, 2);
+        var failedRepeatedly = gameRemoved(gameId + 2, 10);
+        var before = Instant.now();
+
+        // When
+        when(appProperties.getOutboxMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(appProperties.getOutboxInitialBackoff()).thenReturn(INITIAL_BACKOFF);
+        when(appProperties.getOutboxMaxBackoff()).thenReturn(MAX_BACKOFF);
+        whenDue(List.of(failedAsync, failedBlocking, failedRepeatedly));
+        when(playerClient.removeGame(failedAsync.getAggregateId()))
+                .thenReturn(failedFuture(new RestClientException(make())));
+        when(playerClient.removeGame(failedBlocking.getAggregateId())).thenThrow(new RestClientException(make()));
+        when(playerClient.removeGame(failedRepeatedly.getAggregateId()))
+                .thenReturn(failedFuture(new RestClientException(make())));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(emptyList());
+        verify(outboxEventRepository, times(1)).saveAll(List.of(failedAsync, failedBlocking, failedRepeatedly));
+        assertThat(failedAsync.getAttempts()).isEqualTo(1);
+        assertThat(failedAsync.getNextAttemptAt()).isBetween(before.plus(INITIAL_BACKOFF),
+                Instant.now().plus(INITIAL_BACKOFF));
+        assertThat(failedBlocking.getAttempts()).isEqualTo(3);
+        assertThat(failedBlocking.getNextAttemptAt()).isBetween(before.plus(INITIAL_BACKOFF.multipliedBy(4)),
+                Instant.now().plus(INITIAL_BACKOFF.multipliedBy(4)));
+        assertThat(failedRepeatedly.getAttempts()).isEqualTo(11);
+        assertThat(failedRepeatedly.getNextAttemptAt()).isBetween(before.plus(MAX_BACKOFF),
+                Instant.now().plus(MAX_BACKOFF));
+        assertThat(List.of(failedAsync, failedBlocking, failedRepeatedly))
+                .allSatisfy(event -> assertThat(event.getParkedAt()).isNull());
+    }
+
+    @Test
+    @DisplayName("Dispatch - failed, event parked after its last attempt")
+    void dispatch_failedEventParkedAfterLastAttempt() {
+        // Given
+        var event = gameRemoved(generateId(), MAX_ATTEMPTS - 1);
+        var nextAttemptAt = event.getNextAttemptAt();
+
+        // When
+        when(appProperties.getOutboxMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        whenDue(List.of(event));
+        when(playerClient.removeGame(event.getAggregateId()))
+                .thenReturn(failedFuture(new RestClientException(make())));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).saveAll(List.of(event));
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(event.getParkedAt()).isNotNull();
+        assertThat(event.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+    }
+
+    @Test
+    @DisplayName("Dispatch - failed, rejected event parked on its first attempt")
+    void dispatch_failedRejectedEventParked() {
+        // Given
+        var rejected = gameRemoved(generateId(), 0);
+        var notFound = gameRemoved(rejected.getAggregateId() + 1, 0);
+
+        // When
+        when(appProperties.getOutboxMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(appProperties.getOutboxInitialBackoff()).thenReturn(INITIAL_BACKOFF);
+        when(appProperties.getOutboxMaxBackoff()).thenReturn(MAX_BACKOFF);
+        whenDue(List.of(rejected, notFound));
+        when(playerClient.removeGame(rejected.getAggregateId()))
+                .thenReturn(failedFuture(new CompletionException(HttpClientErrorException.create(BAD_REQUEST,
+                        make(), null, null, null))));
+        when(playerClient.removeGame(notFound.getAggregateId()))
+                .thenThrow(HttpClientErrorException.create(NOT_FOUND, make(), null, null, null));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).saveAll(List.of(rejected, notFound));
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getParkedAt()).isNotNull();
+        assertThat(notFound.getAttempts()).isEqualTo(1);
+        assertThat(notFound.getParkedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Dispatch - ok, linked games settled with their events")
+    void dispatch_okLinkedGamesSettled() {
+        // Given
+        var registered = linkPlayer(generateId(), null, 0);
+        var updated = linkPlayer(registered.getAggregateId() + 1, generateId(), 0);
+        var gamesCache = cacheManager.getCache(GAMES_CACHE);
+        gamesCache.put(registered.getAggregateId(), make());
+        gamesCache.put(updated.getAggregateId(), make());
+
+        // When
+        whenDue(List.of(registered, updated));
+        when(gameStartSaga.linkPlayers(List.of(registered, updated)))
+                .thenReturn(List.of(completedFuture(null), completedFuture(null)));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(registered.getId(), updated.getId()));
+        verify(gameStartSaga, times(1)).linked(registered.getAggregateId());
+        verify(gameStartSaga, times(1)).linked(updated.getAggregateId());
+        verify(gameStartSaga, never()).failed(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(gamesCache.get(registered.getAggregateId())).isNull();
+        assertThat(gamesCache.get(updated.getAggregateId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Dispatch - failed, link retried and game dropped after its last attempt")
+    void dispatch_failedLinkRetriedThenGameDropped() {
+        // Given
+        var retried = linkPlayer(generateId(), null, 0);
+        var exhausted = linkPlayer(retried.getAggregateId() + 1, generateId(), MAX_ATTEMPTS - 1);
+        var gamesCache = cacheManager.getCache(GAMES_CACHE);
+        gamesCache.put(retried.getAggregateId(), make());
+        gamesCache.put(exhausted.getAggregateId(), make());
+
+        // When
+        when(appProperties.getOutboxMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(appProperties.getOutboxInitialBackoff()).thenReturn(INITIAL_BACKOFF);
+        when(appProperties.getOutboxMaxBackoff()).thenReturn(MAX_BACKOFF);
+        whenDue(List.of(retried, exhausted));
+        when(gameStartSaga.linkPlayers(List.of(retried, exhausted))).thenReturn(List.of(
+                failedFuture(new RestClientException(make())),
+                failedFuture(new RestClientException(make()))));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).saveAll(List.of(retried, exhausted));
+        assertThat(retried.getParkedAt()).isNull();
+        assertThat(exhausted.getParkedAt()).isNotNull();
+        verify(gameStartSaga, times(1)).failed(exhausted.getAggregateId());
+        verify(gameStartSaga, never()).failed(retried.getAggregateId());
+        verify(gameStartSaga, never()).linked(any());
+        assertThat(gamesCache.get(retried.getAggregateId())).isNotNull();
+        assertThat(gamesCache.get(exhausted.getAggregateId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Dispatch - failed, link to an unknown player parked and game dropped on its first attempt")
+    void dispatch_failedLinkToUnknownPlayerParked() {
+        // Given
+        var unknownPlayer = linkPlayer(generateId(), generateId(), 0);
+        var retried = linkPlayer(unknownPlayer.getAggregateId() + 1, null, 0);
+
+        // When
+        when(appProperties.getOutboxMaxAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(appProperties.getOutboxInitialBackoff()).thenReturn(INITIAL_BACKOFF);
+        when(appProperties.getOutboxMaxBackoff()).thenReturn(MAX_BACKOFF);
+        whenDue(List.of(unknownPlayer, retried));
+        when(gameStartSaga.linkPlayers(List.of(unknownPlayer, retried))).thenReturn(List.of(
+                failedFuture(new CompletionException(HttpClientErrorException.create(NOT_FOUND, make(), null, null,
+                        null))),
+                failedFuture(new RestClientException(make()))));
+
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxEventRepository, times(1)).saveAll(List.of(unknownPlayer, retried));
+        assertThat(unknownPlayer.getAttempts()).isEqualTo(1);
+        assertThat(unknownPlayer.getParkedAt()).isNotNull();
+        assertThat(retried.getParkedAt()).isNull();
+        verify(gameStartSaga, times(1)).failed(unknownPlayer.getAggregateId());
+        verify(gameStartSaga, never()).failed(retried.getAggregateId());
+    }
+
+    private void whenDue(List<OutboxEvent> events) {
+        when(outboxEventRepository.findByTypeAndParkedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(),
+                any())).thenAnswer(invocation -> events.stream()
+                .filter(event -> event.getType() == invocation.getArgument(0))
+                .toList());
+    }
+
+    private OutboxEvent gameRemoved(Long gameId, int attempts) {
+        return new OutboxEvent()
+                .setId(generateId())
+                .setType(GAME_REMOVED)
+                .setAggregateId(gameId)
+                .setAttempts(attempts)
+                .setNextAttemptAt(Instant.now());
+    }
+
+    private OutboxEvent linkPlayer(Long gameId, Long playerId, int attempts) {
+        return new OutboxEvent()
+                .setId(generateId())
+                .setType(LINK_PLAYER)
+                .setAggregateId(gameId)
+                .setPlayerId(playerId)
+                .setAttempts(attempts)
+                .setNextAttemptAt(Instant.now());
+    }
+}
@@ -0,0 +1,291 @@
+package com.numarics.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.game.client.PlayerClient;
+import com.numarics.game.client.dto.PlayerChangeDto;
+import com.numarics.game.client.dto.PlayerChangeLogHeaderDto;
+import com.numarics.game.client.dto.PlayerDetailsDto;
+import com.numarics.game.client.dto.PlayerSnapshotDto;
+import com.numarics.game.configuration.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.GAME_REMOVED;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_CHANGED;
+import static com.numarics.game.client.dto.PlayerChangeDto.Type.PLAYER_DELETED;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerGameReplicaTest {
+
+    private static final String EPOCH = "first-run";
+    private static final int PAGE_SIZE = 10;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    PlayerClient playerClient;
+
+    @Mock
+    AppProperties appProperties;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    SimpleMeterRegistry meterRegistry;
+
+    Path file;
+
+    PlayerGameReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        file = directory.resolve("player-changes.ndjson");
+        lenient().when(appProperties.isPlayerReplicaEnabled()).thenReturn(true);
+        lenient().when(appProperties.getPlayerServiceChangesFile()).thenReturn(file);
+        lenient().when(appProperties.getPlayerReplicaSnapshotPageSize()).thenReturn(PAGE_SIZE);
+        replica = new PlayerGameReplica(playerClient, appProperties, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Poll - ok, disabled replica never serves lookups")
+    void poll_okDisabled() throws IOException {
+        // Given
+        Files.createFile(file);
+
+        // When
+        when(appProperties.isPlayerReplicaEnabled()).thenReturn(false);
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+        verifyNoInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Poll - ok, missing change log never serves lookups")
+    void poll_okMissingChangeLog() {
+        // When
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+        verifyNoInteractions(playerClient);
+    }
+
+    @Test
+    @DisplayName("Poll - ok, snapshot caught up with later changes")
+    void poll_okSnapshotCaughtUp() throws IOException {
+        // Given
+        snapshot(2, new PlayerDetailsDto(1L, "alice", 10L), new PlayerDetailsDto(2L, "bob", 20L));
+        append(new PlayerChangeDto(1, PLAYER_CHANGED, 1L, "alice", 10L),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 2L, "bob", 20L),
+                new PlayerChangeDto(3, PLAYER_CHANGED, 3L, "alice", 30L),
+                new PlayerChangeDto(4, PLAYER_DELETED, 2L, null, null));
+
+        // When
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).contains(List.of(10L, 30L));
+        assertThat(replica.getGameIds("bob")).contains(List.of());
+        assertThat(meterRegistry.get(PlayerGameReplica.PLAYERS_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Poll - ok, partly written change applied once complete")
+    void poll_okPartlyWrittenChangeAppliedOnceComplete() throws IOException {
+        // Given
+        snapshot(0, new PlayerDetailsDto(1L, "alice", 10L));
+        Files.writeString(file, "{\"sequence\":1,\"type\":\"GAME_REMOVED\",", APPEND);
+
+        // When
+        replica.poll();
+        var beforeComplete = replica.getGameIds("alice");
+        Files.writeString(file, "\"gameId\":10}\n", APPEND);
+        replica.poll();
+
+        // Then
+        assertThat(beforeComplete).contains(List.of(10L));
+        assertThat(replica.getGameIds("alice")).contains(List.of());
+        verify(playerClient, times(1)).getPlayerSnapshot(null, PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Poll - ok, players moved, removed and cleared from games")
+    void poll_okPlayersMovedRemovedAndCleared() throws IOException {
+        // Given
+        snapshot(0, new PlayerDetailsDto(1L, "alice", 10L), new PlayerDetailsDto(2L, "alice", 10L),
+                new PlayerDetailsDto(3L, "alice", null), new PlayerDetailsDto(4L, "bob", 20L));
+        append(new PlayerChangeDto(1, PLAYER_CHANGED, 1L, "alice", 20L),
+                new PlayerChangeDto(2, PLAYER_DELETED, 3L, null, null),
+                new PlayerChangeDto(3, PLAYER_DELETED, 5L, null, null),
+                new PlayerChangeDto(4, GAME_REMOVED, null, null, 10L),
+                new PlayerChangeDto(5, GAME_REMOVED, null, null, 30L),
+                new PlayerChangeDto(6, PLAYER_DELETED, 4L, null, null));
+
+        // When
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).contains(List.of(20L));
+        assertThat(replica.getGameIds("bob")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Poll - missing changes resynced on the next poll")
+    void poll_missingChangesResynced() throws IOException {
+        // Given
+        snapshot(0, new PlayerDetailsDto(1L, "alice", 10L));
+        append(new PlayerChangeDto(2, PLAYER_CHANGED, 1L, "alice", 20L));
+
+        // When
+        replica.poll();
+        var afterGap = replica.getGameIds("alice");
+        snapshot(2, new PlayerDetailsDto(1L, "alice", 20L));
+        replica.poll();
+
+        // Then
+        assertThat(afterGap).isEmpty();
+        assertThat(replica.getGameIds("alice")).contains(List.of(20L));
+    }
+
+    @Test
+    @DisplayName("Poll - ok, snapshot read page by page after the last id")
+    void poll_okSnapshotReadPageByPage() throws IOException {
+        // Given
+        Files.writeString(file, header(EPOCH));
+        append(new PlayerChangeDto(1, PLAYER_CHANGED, 3L, "carol", 30L),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 1L, "alice", 40L));
+
+        // When
+        when(appProperties.getPlayerReplicaSnapshotPageSize()).thenReturn(2);
+        when(playerClient.getPlayerSnapshot(null, 2)).thenReturn(completedFuture(new PlayerSnapshotDto(EPOCH, 0, List.of(new PlayerDetailsDto(1L, "alice", 10L), new PlayerDetailsDto(2L, "bob", 20L)))));
+        when(playerClient.getPlayerSnapshot(2L, 2)).thenReturn(completedFuture(new PlayerSnapshotDto(EPOCH, 1, List.of(new PlayerDetailsDto(3L, "carol", 30L)))));
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).contains(List.of(40L));
+        assertThat(replica.getGameIds("bob")).contains(List.of(20L));
+        assertThat(replica.getGameIds("carol")).contains(List.of(30L));
+    }
+
+    @Test
+    @DisplayName("Poll - snapshot pages from different epochs never served")
+    void poll_snapshotPagesFromDifferentEpochs() throws IOException {
+        // Given
+        Files.writeString(file, header(EPOCH));
+
+        // When
+        when(appProperties.getPlayerReplicaSnapshotPageSize()).thenReturn(1);
+        when(playerClient.getPlayerSnapshot(null, 1)).thenReturn(completedFuture(new PlayerSnapshotDto(EPOCH, 0, List.of(new PlayerDetailsDto(1L, "alice", 10L)))));
+        when(playerClient.getPlayerSnapshot(1L, 1)).thenReturn(completedFuture(new PlayerSnapshotDto("second-run", 0, List.of())));
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Poll - restarted change log resynced, even once longer than the old one")
+    void poll_restartedChangeLogResynced() throws IOException {
+        // Given
+        snapshot(0);
+        append(new PlayerChangeDto(1, PLAYER_CHANGED, 1L, "alice", 10L));
+
+        // When
+        replica.poll();
+        Files.writeString(file, header("second-run"));
+        append(new PlayerChangeDto(1, PLAYER_CHANGED, 2L, "bob", 20L),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 3L, "carol", 30L));
+        when(playerClient.getPlayerSnapshot(null, PAGE_SIZE))
+                .thenReturn(completedFuture(new PlayerSnapshotDto("second-run", 0, List.of())));
+        replica.poll();
+        var afterRestart = replica.getGameIds("bob");
+        replica.poll();
+
+        // Then
+        assertThat(afterRestart).isEmpty();
+        assertThat(replica.getGameIds("alice")).contains(List.of());
+        assertThat(replica.getGameIds("bob")).contains(List.of(20L));
+    }
+
+    @Test
+    @DisplayName("Poll - change log without its header never served")
+    void poll_changeLogWithoutHeader() throws IOException {
+        // Given
+        Files.createFile(file);
+
+        // When
+        when(playerClient.getPlayerSnapshot(null, PAGE_SIZE))
+                .thenReturn(completedFuture(new PlayerSnapshotDto(EPOCH, 0, List.of())));
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Poll - unreadable change never served")
+    void poll_unreadableChange() throws IOException {
+        // Given
+        snapshot(0);
+        Files.writeString(file, "not json\n", APPEND);
+
+        // When
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Poll - failed snapshot never served")
+    void poll_failedSnapshot() throws IOException {
+        // Given
+        Files.createFile(file);
+
+        // When
+        when(playerClient.getPlayerSnapshot(null, PAGE_SIZE))
+                .thenReturn(failedFuture(new ResourceAccessException("down")));
+        replica.poll();
+
+        // Then
+        assertThat(replica.getGameIds("alice")).isEmpty();
+    }
+
+    private void snapshot(long sequence, PlayerDetailsDto... players) throws IOException {
+        if (Files.notExists(file)) {
+            Files.writeString(file, header(EPOCH));
+        }
+        when(playerClient.getPlayerSnapshot(null, PAGE_SIZE))
+                .thenReturn(completedFuture(new PlayerSnapshotDto(EPOCH, sequence, List.of(players))));
+    }
+
+    private String header(String epoch) throws IOException {
+        return objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(epoch)) + "\n";
+    }
+
+    private void append(PlayerChangeDto... changes) throws IOException {
+        for (var change : changes) {
+            Files.writeString(file, objectMapper.writeValueAsString(change) + "\n", APPEND);
+        }
+    }
+}
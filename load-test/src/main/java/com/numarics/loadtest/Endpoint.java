@@ -0,0 +1,9 @@
+package com.numarics.loadtest;
+
+enum Endpoint {
+    PLAY,
+    DETAILS,
+    SEARCH,
+    PLAYER_GAMES,
+    DELETE
+}
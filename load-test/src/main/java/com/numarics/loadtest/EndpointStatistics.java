@@ -0,0 +1,47 @@
+package com.numarics.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    // Measured from the intended send time, so queueing behind a saturated service counts (no coordinated omission)
+    private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+    // Measured from the actual send time, the gap to responseTime shows the generator falling behind
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long completedNanos) {
+        responseTime.recordValue(completedNanos - intendedNanos);
+        serviceTime.recordValue(completedNanos - sentNanos);
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void skip() {
+        skipped.increment();
+    }
+
+    Histogram responseTimeHistogram() {
+        return responseTime.getIntervalHistogram();
+    }
+
+    Histogram serviceTimeHistogram() {
+        return serviceTime.getIntervalHistogram();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+}
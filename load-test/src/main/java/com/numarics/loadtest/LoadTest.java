@@ -0,0 +1,88 @@
+package com.numarics.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class LoadTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final int SEED_BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var config = LoadTestConfig.fromArgs(args);
+        Files.createDirectories(config.outputDir());
+        var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var objectMapper = new ObjectMapper();
+
+        try (var playerService = ServiceProcess.start("player-service", config.playerJar(), config.playerPort(),
+                List.of(), config.outputDir());
+             var gameService = ServiceProcess.start("game-service", config.gameJar(), config.gamePort(),
+                     List.of("--player-service.host=localhost", "--player-service.port=" + config.playerPort()),
+                     config.outputDir())) {
+            playerService.awaitHealthy(client, STARTUP_TIMEOUT);
+            gameService.awaitHealthy(client, STARTUP_TIMEOUT);
+
+            var data = seed(client, objectMapper, config);
+            var statistics = new OpenLoadGenerator(client, objectMapper, config, data).run();
+
+            new Report(config, statistics).write(System.out);
+        }
+    }
+
+    private static TestData seed(HttpClient client, ObjectMapper objectMapper, LoadTestConfig config)
+            throws IOException, InterruptedException {
+        var playerNames = IntStream.range(0, config.seedPlayers())
+                .mapToObj(i -> "load-player-" + i)
+                .toList();
+        var playerIds = new ArrayList<Long>();
+        for (int from = 0; from < playerNames.size(); from += SEED_BATCH_SIZE) {
+            var players = playerNames.subList(from, Math.min(from + SEED_BATCH_SIZE, playerNames.size())).stream()
+                    .map(name -> Map.of("name", name))
+                    .toList();
+            var response = post(client, objectMapper, "http://localhost:%d/player/register/batch"
+                    .formatted(config.playerPort()), Map.of("players", players));
+            response.get("players").forEach(player -> playerIds.add(player.get("id").asLong()));
+        }
+
+        var data = new TestData(playerNames, playerIds);
+        for (int from = 0; from < config.seedGames(); from += SEED_BATCH_SIZE) {
+            var games = IntStream.range(from, Math.min(from + SEED_BATCH_SIZE, config.seedGames()))
+                    .mapToObj(i -> Map.of("name", "load-game-" + i, "playerId", playerIds.get(i % playerIds.size())))
+                    .toList();
+            var response = post(client, objectMapper, "http://localhost:%d/game/play/batch"
+                    .formatted(config.gamePort()), Map.of("games", games));
+            response.get("games").forEach(game -> data.addGame(game.get("id").asLong()));
+        }
+
+        return data;
+    }
+
+    private static JsonNode post(HttpClient client, ObjectMapper objectMapper, String uri, Object body)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed, %s returned %d".formatted(uri, response.statusCode()));
+        }
+
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,62 @@
+package com.numarics.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+record LoadTestConfig(int rate,
+                      Duration warmup,
+                      Duration duration,
+                      Map<Endpoint, Integer> mix,
+                      int seedPlayers,
+                      int seedGames,
+                      Duration requestTimeout,
+                      int gamePort,
+                      int playerPort,
+                      Path gameJar,
+                      Path playerJar,
+                      Path outputDir) {
+
+    private static final String DEFAULT_MIX = "play:10,details:40,search:25,player_games:20,delete:5";
+
+    static LoadTestConfig fromArgs(String[] args) {
+        var options = new HashMap<String, String>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "30s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "2m")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(options.getOrDefault("seedPlayers", "1000")),
+                Integer.parseInt(options.getOrDefault("seedGames", "5000")),
+                DurationStyle.detectAndParse(options.getOrDefault("requestTimeout", "30s")),
+                Integer.parseInt(options.getOrDefault("gamePort", "18080")),
+                Integer.parseInt(options.getOrDefault("playerPort", "18081")),
+                Path.of(options.getOrDefault("gameJar", "game-service/target/game-service-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(options.getOrDefault("playerJar",
+                        "player-service/target/player-service-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(options.getOrDefault("outputDir", "load-test/target/results")));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        var weights = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        Arrays.stream(mix.split(","))
+                .map(entry -> entry.split(":"))
+                .forEach(entry -> weights.put(Endpoint.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)),
+                        Integer.parseInt(entry[1].trim())));
+
+        return weights;
+    }
+}
@@ -0,0 +1,152 @@
+package com.numarics.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+
+// Sends requests at a fixed arrival rate regardless of how fast responses come back (open model)
+final class OpenLoadGenerator {
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final TestData data;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStatistics> statistics = new EnumMap<>(Endpoint.class);
+    private final String gameUri;
+    private final String playerUri;
+
+    OpenLoadGenerator(HttpClient client, ObjectMapper objectMapper, LoadTestConfig config, TestData data) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.data = data;
+        this.endpoints = config.mix().keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += config.mix().get(endpoints[i]);
+            cumulativeWeights[i] = total;
+            statistics.put(endpoints[i], new EndpointStatistics());
+        }
+        this.gameUri = "http://localhost:%d/game".formatted(config.gamePort());
+        this.playerUri = "http://localhost:%d/player".formatted(config.playerPort());
+    }
+
+    Map<Endpoint, EndpointStatistics> run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        var outstanding = new Phaser(1);
+
+        for (long i = 0; ; i++) {
+            // Each request has a slot on the schedule, late slots are sent at once rather than skipped
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(nextEndpoint(), intended, intended >= measureFrom, outstanding);
+        }
+
+        try {
+            outstanding.awaitAdvanceInterruptibly(outstanding.arrive(), config.requestTimeout().toNanos() * 2,
+                    TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Requests still outstanding after the run", e);
+        }
+
+        return statistics;
+    }
+
+    private void send(Endpoint endpoint, long intended, boolean measured, Phaser outstanding) {
+        var stats = statistics.get(endpoint);
+        var request = buildRequest(endpoint);
+        if (request.isEmpty()) {
+            stats.skip();
+            return;
+        }
+
+        outstanding.register();
+        long sent = System.nanoTime();
+        client.sendAsync(request.get(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    long completed = System.nanoTime();
+                    try {
+                        if (failure != null || response.statusCode() >= 400) {
+                            stats.error();
+                        } else if (endpoint == Endpoint.PLAY) {
+                            data.addGame(readId(response.body()));
+                        }
+                        if (measured) {
+                            stats.record(intended, sent, completed);
+                        }
+                    } finally {
+                        outstanding.arriveAndDeregister();
+                    }
+                });
+    }
+
+    private Optional<HttpRequest> buildRequest(Endpoint endpoint) {
+        return switch (endpoint) {
+            case PLAY -> Optional.of(newRequest(gameUri + "/play")
+                    .POST(ofString("{\"name\":\"load-game\",\"playerId\":%d}".formatted(data.anyPlayerId())))
+                    .build());
+            case DETAILS -> data.anyGame().stream()
+                    .mapToObj(id -> newRequest(gameUri + "/" + id).GET().build())
+                    .findFirst();
+            case SEARCH -> Optional.of(newRequest(gameUri + "?playerName=" + data.anyPlayerName()).GET().build());
+            case PLAYER_GAMES -> Optional.of(newRequest(playerUri + "/" + data.anyPlayerName() + "/games")
+                    .GET()
+                    .build());
+            case DELETE -> data.takeGame().stream()
+                    .mapToObj(id -> newRequest(gameUri + "/" + id).DELETE().build())
+                    .findFirst();
+        };
+    }
+
+    private HttpRequest.Builder newRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(config.requestTimeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private Endpoint nextEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (pick >= cumulativeWeights[i]) {
+            i++;
+        }
+
+        return endpoints[i];
+    }
+
+    private long readId(byte[] body) {
+        try {
+            return objectMapper.readTree(body).get("id").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
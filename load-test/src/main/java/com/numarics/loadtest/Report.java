@@ -0,0 +1,62 @@
+package com.numarics.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+
+final class Report {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestConfig config;
+    private final Map<Endpoint, EndpointStatistics> statistics;
+
+    Report(LoadTestConfig config, Map<Endpoint, EndpointStatistics> statistics) {
+        this.config = config;
+        this.statistics = statistics;
+    }
+
+    void write(PrintStream out) throws IOException {
+        double seconds = config.duration().toNanos() / 1e9;
+        out.printf(Locale.ROOT, "Target rate %d req/s, measured over %s after %s warmup%n",
+                config.rate(), config.duration(), config.warmup());
+        out.printf(Locale.ROOT, "%-13s %9s %7s %7s %9s %9s %9s %9s %9s %9s %12s%n", "endpoint", "count", "errors",
+                "skipped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+
+        for (var entry : statistics.entrySet()) {
+            var stats = entry.getValue();
+            var responseTime = stats.responseTimeHistogram();
+            var serviceTime = stats.serviceTimeHistogram();
+            out.printf(Locale.ROOT, "%-13s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    entry.getKey().name().toLowerCase(Locale.ROOT),
+                    responseTime.getTotalCount(),
+                    stats.errors(),
+                    stats.skipped(),
+                    responseTime.getTotalCount() / seconds,
+                    millis(responseTime, 50),
+                    millis(responseTime, 90),
+                    millis(responseTime, 99),
+                    millis(responseTime, 99.9),
+                    responseTime.getMaxValue() / NANOS_PER_MILLI,
+                    millis(serviceTime, 99));
+            writeHistogram(entry.getKey(), "response-time", responseTime);
+            writeHistogram(entry.getKey(), "service-time", serviceTime);
+        }
+        out.println("Full percentile distributions (.hgrm, in ms) are in " + config.outputDir().toAbsolutePath());
+    }
+
+    private void writeHistogram(Endpoint endpoint, String kind, Histogram histogram) throws IOException {
+        var file = config.outputDir().resolve("%s-%s.hgrm".formatted(endpoint.name().toLowerCase(Locale.ROOT), kind));
+        try (var out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,52 @@
+package com.numarics.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class TestData {
+
+    private final List<String> playerNames;
+    private final List<Long> playerIds;
+    // Guarded by this, games started during the run are added and deleted ones taken out
+    private final List<Long> gameIds = new ArrayList<>();
+
+    TestData(List<String> playerNames, List<Long> playerIds) {
+        this.playerNames = List.copyOf(playerNames);
+        this.playerIds = List.copyOf(playerIds);
+    }
+
+    String anyPlayerName() {
+        return playerNames.get(ThreadLocalRandom.current().nextInt(playerNames.size()));
+    }
+
+    long anyPlayerId() {
+        return playerIds.get(ThreadLocalRandom.current().nextInt(playerIds.size()));
+    }
+
+    synchronized void addGame(long id) {
+        gameIds.add(id);
+    }
+
+    synchronized OptionalLong anyGame() {
+        if (gameIds.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(gameIds.get(ThreadLocalRandom.current().nextInt(gameIds.size())));
+    }
+
+    synchronized OptionalLong takeGame() {
+        if (gameIds.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        // Swap with the last element so removal stays O(1)
+        int index = ThreadLocalRandom.current().nextInt(gameIds.size());
+        long id = gameIds.get(index);
+        gameIds.set(index, gameIds.get(gameIds.size() - 1));
+        gameIds.remove(gameIds.size() - 1);
+
+        return OptionalLong.of(id);
+    }
+}
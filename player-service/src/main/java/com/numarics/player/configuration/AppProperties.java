@@ -0,0 +1,27 @@
+package com.numarics.player.configuration;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@Getter
+public class AppProperties {
+
+    @Value("${player.removeGame.chunkSize:1000}")
+    private int removeGameChunkSize;
+
+    @Value("${player.register.batchSize:50}")
+    private int registerBatchSize;
+
+    @Value("${player.changes.file:${java.io.tmpdir}/game-tracker/player-changes.ndjson}")
+    private Path changesFile;
+
+    @Value("${player.changes.rotateAfter:1000000}")
+    private long changesRotateAfter;
+
+    @Value("${player.snapshot.maxPageSize:10000}")
+    private int snapshotMaxPageSize;
+}
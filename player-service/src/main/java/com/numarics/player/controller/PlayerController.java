@@ -1,7 +1,6 @@
 package com.numarics.player.controller;
 
 import com.numarics.player.model.dto.*;
-import com.numarics.player.model.entity.Player;
 import com.numarics.player.service.PlayerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +24,22 @@ public class PlayerController {
         return conversionService.convert(player, RegisterPlayerResponseDto.class);
     }
 
+    @PostMapping("register/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public RegisterPlayersResponseDto registerPlayers(@Valid @RequestBody RegisterPlayersRequestDto dto) {
+        var players = playerService.registerPlayers(dto.players()).stream()
+                .map(player -> conversionService.convert(player, RegisterPlayerResponseDto.class))
+                .toList();
+
+        return new RegisterPlayersResponseDto(players);
+    }
+
+    @GetMapping("snapshot")
+    public PlayerSnapshotDto getSnapshot(@RequestParam(required = false) Long afterId,
+                                         @RequestParam(required = false) Integer limit) {
+        return playerService.getSnapshot(afterId, limit);
+    }
+
     @GetMapping("{id}")
     public PlayerDetailsDto getPlayerDetails(@PathVariable Long id) {
         var player = playerService.getById(id);
@@ -46,17 +61,22 @@ public class PlayerController {
         return conversionService.convert(player, PlayerDetailsDto.class);
     }
 
-    @GetMapping("{name}/games")
-    public GameSearchResponseDto getGameIds(@PathVariable String name) {
-        var games = playerService.findByName(name).stream()
-                .map(Player::getGameId)
+    @PatchMapping("batch")
+    public PlayersDetailsDto updatePlayersGame(@Valid @RequestBody UpdatePlayersGameRequestDto dto) {
+        var players = playerService.updatePlayersGame(dto.players()).stream()
+                .map(player -> conversionService.convert(player, PlayerDetailsDto.class))
                 .toList();
 
-        return new GameSearchResponseDto(games);
+        return new PlayersDetailsDto(players);
+    }
+
+    @GetMapping("{name}/games")
+    public GameSearchResponseDto getGameIds(@PathVariable String name) {
+        return new GameSearchResponseDto(playerService.getGameIdsByName(name));
     }
 
     @PutMapping("games/{id}")
-    public void removeGameForPlayers(@PathVariable("id") Long gameId) {
-        playerService.removeGameForPlayers(gameId);
+    public RemoveGameResponseDto removeGameForPlayers(@PathVariable("id") Long gameId) {
+        return new RemoveGameResponseDto(playerService.removeGameForPlayers(gameId));
     }
 }
@@ -0,0 +1,14 @@
+package com.numarics.player.model.dto;
+
+public record PlayerChangeDto(long sequence, Type type, Long playerId, String name, Long gameId) {
+
+    public enum Type {
+        PLAYER_CHANGED,
+        PLAYER_DELETED,
+        GAME_REMOVED
+    }
+
+    public PlayerChangeDto withSequence(long sequence) {
+        return new PlayerChangeDto(sequence, type, playerId, name, gameId);
+    }
+}
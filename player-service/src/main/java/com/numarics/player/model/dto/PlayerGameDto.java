@@ -0,0 +1,6 @@
+package com.numarics.player.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record PlayerGameDto(@NotNull Long id, @NotNull Long gameId) {
+}
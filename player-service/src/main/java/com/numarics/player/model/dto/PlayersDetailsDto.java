@@ -0,0 +1,6 @@
+package com.numarics.player.model.dto;
+
+import java.util.List;
+
+public record PlayersDetailsDto(List<PlayerDetailsDto> players) {
+}
@@ -0,0 +1,10 @@
+package com.numarics.player.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record RegisterPlayersRequestDto(@NotEmpty List<@Valid @NotNull RegisterPlayerRequestDto> players) {
+}
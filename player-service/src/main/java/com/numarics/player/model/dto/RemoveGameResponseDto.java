@@ -0,0 +1,4 @@
+package com.numarics.player.model.dto;
+
+public record RemoveGameResponseDto(int updatedPlayers) {
+}
@@ -1,13 +1,38 @@
 package com.numarics.player.repository;
 
+import com.numarics.player.model.dto.PlayerDetailsDto;
 import com.numarics.player.model.entity.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
-    List<Player> findByName(String name);
+    // Read through a JDBC cursor straight into DTOs, for rebuilding in-memory views of the whole table
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.numarics.player.model.dto.PlayerDetailsDto(p.id, p.name, p.gameId) from Player p")
+    Stream<PlayerDetailsDto> streamAllDetails();
 
-    List<Player> findByGameId(Long gameId);
+    @Query("""
+            select new com.numarics.player.model.dto.PlayerDetailsDto(p.id, p.name, p.gameId) from Player p
+            where p.id > :afterId order by p.id""")
+    List<PlayerDetailsDto> findDetailsAfter(long afterId, Pageable pageable);
+
+    // Naming the touched table keeps Hibernate from invalidating every cache region after a native update
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "players"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE players SET game_id = NULL
+            WHERE game_id = :gameId
+            FETCH FIRST :limit ROWS ONLY""", nativeQuery = true)
+    int clearGameId(Long gameId, int limit);
 }
@@ -0,0 +1,155 @@
+package com.numarics.player.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.model.dto.PlayerChangeDto;
+import com.numarics.player.model.dto.PlayerChangeLogHeaderDto;
+import com.numarics.player.model.entity.Player;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.GAME_REMOVED;
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.PLAYER_CHANGED;
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.PLAYER_DELETED;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerChangeLog implements SmartInitializingSingleton {
+
+    private final AppProperties appProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // Held from just before a transaction commits until its changes are appended, so changes to the same player are
+    // logged in the order they were committed
+    private final ReentrantLock lock = new ReentrantLock();
+    // Tells this log apart from an older one, so consumers resync instead of reading it from their old offset
+    private String epoch = UUID.randomUUID().toString();
+    private long sequence;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var file = appProperties.getChangesFile().toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            start(epoch);
+        } catch (IOException exception) {
+            log.error("Starting player change log {} failed", file, exception);
+        }
+    }
+
+    public void playerChanged(Player player) {
+        playersChanged(List.of(player));
+    }
+
+    public void playersChanged(List<Player> players) {
+        var changes = players.stream()
+                .map(player -> new PlayerChangeDto(0, PLAYER_CHANGED, player.getId(), player.getName(),
+                        player.getGameId()))
+                .toList();
+        appendAfterCommit(changes);
+    }
+
+    public void playerDeleted(Long playerId) {
+        appendAfterCommit(List.of(new PlayerChangeDto(0, PLAYER_DELETED, playerId, null, null)));
+    }
+
+    public void gameRemoved(Long gameId) {
+        appendAfterCommit(List.of(new PlayerChangeDto(0, GAME_REMOVED, null, null, gameId)));
+    }
+
+    public Position getPosition() {
+        lock.lock();
+        try {
+            return new Position(epoch, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void appendAfterCommit(List<PlayerChangeDto> changes) {
+        // Only committed changes are published, consumers never see a write that was rolled back
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Flushed first, so every row lock is taken before waiting for a transaction that may need one
+                entityManager.flush();
+                lock.lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                append(changes);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    private void append(List<PlayerChangeDto> changes) {
+        var file = appProperties.getChangesFile();
+        try {
+            List<String> lines = new ArrayList<>(changes.size());
+            for (var change : changes) {
+                lines.add(objectMapper.writeValueAsString(change.withSequence(++sequence)));
+            }
+            Files.write(file, lines, CREATE, APPEND);
+        } catch (IOException exception) {
+            // The sequence numbers stay taken, so consumers see the gap and resync instead of missing changes
+            log.error("Appending {} player changes to {} failed", changes.size(), file, exception);
+        }
+
+        if (sequence >= appProperties.getChangesRotateAfter()) {
+            rotate();
+        }
+    }
+
+    private void rotate() {
+        var next = UUID.randomUUID().toString();
+        try {
+            start(next);
+            epoch = next;
+            sequence = 0;
+        } catch (IOException exception) {
+            // Kept on the current log, the next append tries again
+            log.error("Rotating player change log {} failed", appProperties.getChangesFile(), exception);
+        }
+    }
+
+    private void start(String epoch) throws IOException {
+        // Consumers tailing the file either still read the old log to its end or open the new one, never a mix
+        var file = appProperties.getChangesFile();
+        var next = file.resolveSibling(file.getFileName() + ".next");
+        Files.write(next, List.of(objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(epoch))));
+        Files.move(next, file, ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    public record Position(String epoch, long sequence) {
+    }
+}
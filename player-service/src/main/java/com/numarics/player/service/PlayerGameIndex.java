@@ -0,0 +1,110 @@
+package com.numarics.player.service;
+
+import com.numarics.common.player.PlayerGames;
+import com.numarics.player.model.entity.Player;
+import com.numarics.player.repository.PlayerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.numarics.common.transaction.TransactionHooks.afterCommit;
+
+@Slf4j
+@Component
+public class PlayerGameIndex implements SmartInitializingSingleton {
+
+    public static final String PLAYERS_METRIC = "player.game.index.players";
+    public static final String MEMORY_METRIC = "player.game.index.memory";
+
+    private final PlayerRepository playerRepository;
+    private final TransactionOperations readOnlyTransactionOperations;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PlayerGames playerGames = new PlayerGames();
+
+    public PlayerGameIndex(PlayerRepository playerRepository,
+                           TransactionOperations readOnlyTransactionOperations,
+                           MeterRegistry meterRegistry) {
+        this.playerRepository = playerRepository;
+        this.readOnlyTransactionOperations = readOnlyTransactionOperations;
+        Gauge.builder(PLAYERS_METRIC, playerGames, PlayerGames::size)
+                .description("Players in the in-memory game index")
+                .register(meterRegistry);
+        Gauge.builder(MEMORY_METRIC, this, PlayerGameIndex::estimatedBytes)
+                .description("Estimated heap held by the in-memory game index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        lock.writeLock().lock();
+        try {
+            playerGames.clear();
+            readOnlyTransactionOperations.executeWithoutResult(status -> {
+                try (var players = playerRepository.streamAllDetails()) {
+                    players.forEach(player -> playerGames.put(player.id(), player.name(), player.gameId()));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} players in {} ms, about {} KiB", playerGames.size(),
+                (System.nanoTime() - start) / 1_000_000, estimatedBytes() / 1024);
+    }
+
+    public void put(Player player) {
+        Long id = player.getId();
+        String name = player.getName();
+        Long gameId = player.getGameId();
+        afterCommit(() -> write(() -> playerGames.put(id, name, gameId)));
+    }
+
+    public void remove(Long playerId) {
+        afterCommit(() -> write(() -> playerGames.remove(playerId)));
+    }
+
+    public void clearGame(Long gameId) {
+        afterCommit(() -> write(() -> playerGames.clearGame(gameId)));
+    }
+
+    public List<Long> getGameIds(String name) {
+        lock.readLock().lock();
+        try {
+            return playerGames.getGameIds(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return playerGames.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.numarics.player.service;
 
+import com.numarics.player.model.dto.PlayerGameDto;
+import com.numarics.player.model.dto.PlayerSnapshotDto;
 import com.numarics.player.model.dto.RegisterPlayerRequestDto;
 import com.numarics.player.model.dto.UpdatePlayerGameRequestDto;
 import com.numarics.player.model.entity.Player;
@@ -10,13 +12,19 @@ public interface PlayerService {
 
     Player registerPlayer(RegisterPlayerRequestDto dto);
 
+    List<Player> registerPlayers(List<RegisterPlayerRequestDto> dtos);
+
     Player getById(Long id);
 
     void deletePlayer(Long id);
 
-    List<Player> findByName(String name);
+    List<Long> getGameIdsByName(String name);
+
+    PlayerSnapshotDto getSnapshot(Long afterId, Integer limit);
 
     Player updatePlayerGame(Long id, UpdatePlayerGameRequestDto dto);
 
-    void removeGameForPlayers(Long gameId);
+    List<Player> updatePlayersGame(List<PlayerGameDto> dtos);
+
+    int removeGameForPlayers(Long gameId);
 }
@@ -1,22 +1,41 @@
 package com.numarics.player.service.impl;
 
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.exception.BadRequestException;
 import com.numarics.player.exception.ResourceNotFoundException;
+import com.numarics.player.model.dto.PlayerGameDto;
+import com.numarics.player.model.dto.PlayerSnapshotDto;
 import com.numarics.player.model.dto.RegisterPlayerRequestDto;
 import com.numarics.player.model.dto.UpdatePlayerGameRequestDto;
 import com.numarics.player.model.entity.Player;
 import com.numarics.player.repository.PlayerRepository;
+import com.numarics.player.service.PlayerChangeLog;
+import com.numarics.player.service.PlayerGameIndex;
 import com.numarics.player.service.PlayerService;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.stream.Collectors.toMap;
+
 @Service
 @RequiredArgsConstructor
 public class PlayerServiceImpl implements PlayerService {
 
     private final PlayerRepository playerRepository;
+    private final AppProperties appProperties;
+    private final EntityManager entityManager;
+    private final PlayerGameIndex playerGameIndex;
+    private final PlayerChangeLog playerChangeLog;
+    private final TransactionOperations transactionOperations;
 
     @Override
     @Transactional
@@ -25,7 +44,35 @@ public class PlayerServiceImpl implements PlayerService {
                 .setName(dto.name())
                 .setGameId(dto.gameId());
 
-        return playerRepository.save(player);
+        var saved = playerRepository.save(player);
+        playerGameIndex.put(saved);
+        playerChangeLog.playerChanged(saved);
+
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Player> registerPlayers(List<RegisterPlayerRequestDto> dtos) {
+        // Bulk imports would otherwise push the hot players out of the second-level cache
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        int batchSize = appProperties.getRegisterBatchSize();
+        List<Player> players = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += batchSize) {
+            var batch = dtos.subList(from, Math.min(from + batchSize, dtos.size())).stream()
+                    .map(dto -> new Player()
+                            .setName(dto.name())
+                            .setGameId(dto.gameId()))
+                    .toList();
+            players.addAll(playerRepository.saveAll(batch));
+            // Flushing per batch sends one JDBC batch, clearing keeps the persistence context from growing
+            entityManager.flush();
+            entityManager.clear();
+        }
+        players.forEach(playerGameIndex::put);
+        playerChangeLog.playersChanged(players);
+
+        return players;
     }
 
     @Override
@@ -41,28 +88,84 @@ public class PlayerServiceImpl implements PlayerService {
                 .orElseThrow(ResourceNotFoundException::new);
 
         playerRepository.delete(player);
+        playerGameIndex.remove(id);
+        playerChangeLog.playerDeleted(id);
     }
 
     @Override
-    public List<Player> findByName(String name) {
-        return playerRepository.findByName(name);
+    public List<Long> getGameIdsByName(String name) {
+        return playerGameIndex.getGameIds(name);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerSnapshotDto getSnapshot(Long afterId, Integer limit) {
+        var page = PageRequest.ofSize(resolveSnapshotPageSize(limit));
+        // Read before the rows, every change the rows miss is in the log after this sequence
+        var position = playerChangeLog.getPosition();
+        var players = playerRepository.findDetailsAfter(afterId == null ? Long.MIN_VALUE : afterId, page);
+
+        return new PlayerSnapshotDto(position.epoch(), position.sequence(), players);
     }
 
     @Override
     @Transactional
     public Player updatePlayerGame(Long id, UpdatePlayerGameRequestDto dto) {
-        return playerRepository.findById(id)
-                .map(player -> player.setGameId(dto.gameId()))
+        var player = playerRepository.findById(id)
+                .map(found -> found.setGameId(dto.gameId()))
                 .orElseThrow(ResourceNotFoundException::new);
+        playerGameIndex.put(player);
+        playerChangeLog.playerChanged(player);
+
+        return player;
     }
 
     @Override
     @Transactional
-    public void removeGameForPlayers(Long gameId) {
-        var players = playerRepository.findByGameId(gameId).stream()
-                .map(player -> player.setGameId(null))
-                .toList();
+    public List<Player> updatePlayersGame(List<PlayerGameDto> dtos) {
+        var gameIds = dtos.stream()
+                .collect(toMap(PlayerGameDto::id, PlayerGameDto::gameId, (first, last) -> last));
+        var players = playerRepository.findAllById(gameIds.keySet());
+        if (players.size() != gameIds.size()) {
+            throw new ResourceNotFoundException();
+        }
+
+        players.forEach(player -> playerGameIndex.put(player.setGameId(gameIds.get(player.getId()))));
+        playerChangeLog.playersChanged(players);
+
+        return players;
+    }
+
+    @Override
+    public int removeGameForPlayers(Long gameId) {
+        // Each chunk commits on its own so very large games never hold one long lock on the table
+        int chunkSize = appProperties.getRemoveGameChunkSize();
+        int updatedPlayers = 0;
+        int updated;
+        do {
+            // Logged and indexed with its chunk, so a player moved into the game by a later commit is not cleared
+            updated = transactionOperations.execute(status -> {
+                int cleared = playerRepository.clearGameId(gameId, chunkSize);
+                if (cleared > 0) {
+                    playerGameIndex.clearGame(gameId);
+                    playerChangeLog.gameRemoved(gameId);
+                }
+                return cleared;
+            });
+            updatedPlayers += updated;
+        } while (updated == chunkSize);
+
+        return updatedPlayers;
+    }
+
+    private int resolveSnapshotPageSize(Integer limit) {
+        if (limit == null) {
+            return appProperties.getSnapshotMaxPageSize();
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be positive");
+        }
 
-        playerRepository.saveAll(players);
+        return Math.min(limit, appProperties.getSnapshotMaxPageSize());
     }
 }
@@ -0,0 +1,6 @@
+CREATE TABLE players
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name    VARCHAR(255),
+    game_id BIGINT
+);
@@ -0,0 +1,3 @@
+-- Covers the name to game ids lookup without touching the table rows
+CREATE INDEX idx_players_name_game_id ON players (name, game_id);
+CREATE INDEX idx_players_game_id ON players (game_id);
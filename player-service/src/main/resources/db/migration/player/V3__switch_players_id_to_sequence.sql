@@ -0,0 +1,5 @@
+CREATE SEQUENCE players_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE players_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM players);
+
+ALTER TABLE players ALTER COLUMN id DROP IDENTITY;
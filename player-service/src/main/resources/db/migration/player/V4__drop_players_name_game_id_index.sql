@@ -0,0 +1,2 @@
+-- Name lookups are served by PlayerGameIndex, no query reads players by name any more
+DROP INDEX idx_players_name_game_id;
@@ -21,9 +21,12 @@ public class HttpBasedTest {
 
     protected static final String PLAYERS_URI = "/player";
     protected static final String PLAYER_URI = PLAYERS_URI + "/{id}";
+    protected static final String SNAPSHOT_URI = PLAYERS_URI + "/snapshot";
+    protected static final String PLAYERS_BATCH_URI = PLAYERS_URI + "/batch";
     protected static final String PLAYERS_GAMES_URI = PLAYERS_URI + "/{name}/games";
     protected static final String GAME_URI = PLAYERS_URI + "/games/{id}";
     protected static final String REGISTER_PLAYER_URI = PLAYERS_URI + "/register";
+    protected static final String REGISTER_PLAYERS_URI = REGISTER_PLAYER_URI + "/batch";
 
     static {
         RestAssuredConfig.config().getLogConfig()
@@ -1,16 +1,69 @@
 package com.numarics.player;
 
+import com.numarics.player.model.entity.Player;
+import com.numarics.player.repository.PlayerRepository;
+import com.numarics.player.service.PlayerGameIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class PlayerServiceApplicationIT {
 
+    @Autowired
+    PlayerRepository playerRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    PlayerGameIndex playerGameIndex;
+
+    @Test
+    @DisplayName("Hibernate statistics are published as meters")
+    void hibernateStatisticsPublishedAsMeters() {
+        assertThat(meterRegistry.find("hibernate.sessions.open")
+                .tag("entityManagerFactory", "entityManagerFactory")
+                .functionCounter()).isNotNull();
+    }
+
     @Test
     @DisplayName("App starts up")
     void contextLoads() {
 
     }
 
+    @Test
+    @DisplayName("Player loads are served from the second-level cache")
+    void playerLoadsServedFromSecondLevelCache() {
+        var player = playerRepository.save(new Player().setName(make()));
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        playerRepository.findById(player.getId());
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    @DisplayName("Game index rebuild picks up players saved directly")
+    void gameIndexRebuildPicksUpSavedPlayers() {
+        var name = make();
+        playerRepository.save(new Player().setName(name).setGameId(1L));
+        playerRepository.save(new Player().setName(name));
+
+        playerGameIndex.rebuild();
+
+        assertThat(playerGameIndex.getGameIds(name)).containsExactly(1L);
+    }
 }
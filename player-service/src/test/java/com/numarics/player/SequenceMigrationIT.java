@@ -0,0 +1,41 @@
+package com.numarics.player;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceMigrationIT {
+
+    static final String URL = "jdbc:h2:mem:player-sequence-migration;DB_CLOSE_DELAY=-1";
+    static final int EXISTING_PLAYERS = 75;
+
+    @Test
+    @DisplayName("Players sequence restarts a whole block above the existing ids")
+    void playersSequenceRestartsAboveExistingIds() throws SQLException {
+        migrate("2");
+        try (var connection = DriverManager.getConnection(URL, "sa", "");
+             var statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO players (id, name) SELECT X, CONCAT('player-', X) "
+                    + "FROM SYSTEM_RANGE(1, %d)".formatted(EXISTING_PLAYERS));
+            migrate("latest");
+
+            var next = statement.executeQuery("SELECT NEXT VALUE FOR players_seq");
+            next.next();
+            assertThat(next.getLong(1)).isEqualTo(EXISTING_PLAYERS + 50);
+        }
+    }
+
+    private static void migrate(String target) {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/player")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,32 @@
+package com.numarics.player.controller;
+
+import com.numarics.player.HttpBasedTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+import static com.numarics.player.TestUtil.generateId;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.http.HttpStatus.OK;
+
+@DisplayName("Metrics endpoint")
+@AutoConfigureObservability
+public class MetricsEndpointIT extends HttpBasedTest {
+
+    @Test
+    @DisplayName("Prometheus - ok, repository latency histogram exported")
+    void prometheus_okRepositoryHistogramExported() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(PLAYER_URI), generateId());
+
+        given()
+                .when()
+                .get(url("/actuator/prometheus"))
+                .then()
+                .statusCode(OK.value())
+                .body(containsString("spring_data_repository_invocations_seconds_bucket{"));
+    }
+}
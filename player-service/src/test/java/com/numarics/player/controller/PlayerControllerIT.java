@@ -1,14 +1,25 @@
 package com.numarics.player.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.numarics.player.HttpBasedTest;
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.model.dto.PlayerChangeDto;
+import com.numarics.player.model.dto.PlayerChangeLogHeaderDto;
+import com.numarics.player.model.dto.RegisterPlayerRequestDto;
 import com.numarics.player.model.entity.Player;
 import com.numarics.player.repository.PlayerRepository;
+import com.numarics.player.service.PlayerService;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
 import static com.numarics.player.TestUtil.generateId;
 import static io.restassured.RestAssured.given;
 import static net.bytebuddy.utility.RandomString.make;
@@ -24,6 +35,15 @@ public class PlayerControllerIT extends HttpBasedTest {
     @Autowired
     PlayerRepository playerRepository;
 
+    @Autowired
+    PlayerService playerService;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     @Test
     @DisplayName("Register player - ok")
     void registerPlayer_ok() throws JSONException {
@@ -59,6 +79,64 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .statusCode(BAD_REQUEST.value());
     }
 
+    @Test
+    @DisplayName("Register players - ok")
+    void registerPlayers_ok() throws JSONException {
+        var gameId = generateId();
+        var names = List.of(make(), make(), make(), make(), make());
+        var players = new JSONArray();
+        for (String name : names) {
+            players.put(registerPlayerJSON(name, gameId));
+        }
+
+        List<Integer> ids = given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", players).toString())
+                .when()
+                .post(url(REGISTER_PLAYERS_URI))
+                .then()
+                .statusCode(CREATED.value())
+                .body("players.name", contains(names.toArray()))
+                .body("players.gameId", everyItem(equalTo(gameId.intValue())))
+                .extract().path("players.id");
+
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(playerRepository.findAllById(ids.stream().map(Long::valueOf).toList()))
+                .extracting(Player::getName)
+                .containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @Test
+    @DisplayName("Register players - no players")
+    void registerPlayers_noPlayers() throws JSONException {
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", new JSONArray()).toString())
+                .when()
+                .post(url(REGISTER_PLAYERS_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Register players - missing name")
+    void registerPlayers_missingName() throws JSONException {
+        var players = new JSONArray()
+                .put(registerPlayerJSON())
+                .put(registerPlayerJSON(null, generateId()));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", players).toString())
+                .when()
+                .post(url(REGISTER_PLAYERS_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("Player details - ok")
     void getPlayerDetails_ok() {
@@ -81,7 +159,7 @@ public class PlayerControllerIT extends HttpBasedTest {
         given()
                 .headers(defaultHeaders())
                 .when()
-                .get(url(PLAYER_URI), generateId())
+                .get(url(PLAYER_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
@@ -105,7 +183,7 @@ public class PlayerControllerIT extends HttpBasedTest {
         given()
                 .headers(defaultHeaders())
                 .when()
-                .delete(url(PLAYER_URI), generateId())
+                .delete(url(PLAYER_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
@@ -130,6 +208,72 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .body("gameId", equalTo(newGameId));
     }
 
+    @Test
+    @DisplayName("Update players game - ok")
+    void updatePlayersGame_ok() throws JSONException {
+        var player1 = createRandomPlayer();
+        var player2 = createRandomPlayer();
+        var gameId1 = generateId();
+        var gameId2 = generateId();
+        // The last entry for a player wins
+        var players = new JSONArray()
+                .put(playerGameJSON(player1.getId(), generateId()))
+                .put(playerGameJSON(player1.getId(), gameId1))
+                .put(playerGameJSON(player2.getId(), gameId2));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", players).toString())
+                .when()
+                .patch(url(PLAYERS_BATCH_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("players.id", containsInAnyOrder(player1.getId().intValue(), player2.getId().intValue()))
+                .body("players.name", containsInAnyOrder(player1.getName(), player2.getName()));
+
+        assertAll(
+                () -> assertThat(playerRepository.findById(player1.getId()).orElseThrow().getGameId()).isEqualTo(gameId1),
+                () -> assertThat(playerRepository.findById(player2.getId()).orElseThrow().getGameId()).isEqualTo(gameId2)
+        );
+    }
+
+    @Test
+    @DisplayName("Update players game - player not found")
+    void updatePlayersGame_playerNotFound() throws JSONException {
+        var player = createRandomPlayer();
+        var players = new JSONArray()
+                .put(playerGameJSON(player.getId(), generateId()))
+                .put(playerGameJSON(Long.MAX_VALUE, generateId()));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", players).toString())
+                .when()
+                .patch(url(PLAYERS_BATCH_URI))
+                .then()
+                .statusCode(NOT_FOUND.value());
+
+        assertThat(playerRepository.findById(player.getId()).orElseThrow().getGameId()).isEqualTo(player.getGameId());
+    }
+
+    @Test
+    @DisplayName("Update players game - missing game ID")
+    void updatePlayersGame_missingGameId() throws JSONException {
+        var players = new JSONArray()
+                .put(playerGameJSON(generateId(), null));
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("players", players).toString())
+                .when()
+                .patch(url(PLAYERS_BATCH_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("Update player game - missing game ID")
     void updatePlayerGame_missingGameId() throws JSONException {
@@ -156,11 +300,79 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .contentType("application/json")
                 .body(updatePlayerGameJSON.toString())
                 .when()
-                .patch(url(PLAYER_URI), generateId())
+                .patch(url(PLAYER_URI), Long.MAX_VALUE)
                 .then()
                 .statusCode(NOT_FOUND.value());
     }
 
+    @Test
+    @DisplayName("Get snapshot - ok, later changes logged after its sequence under its epoch")
+    void getSnapshot_okLaterChangesLogged() throws IOException {
+        var player = createRandomPlayer();
+
+        var snapshot = given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(SNAPSHOT_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("players.id", hasItem(player.getId().intValue()))
+                .extract().jsonPath();
+        long sequence = snapshot.getLong("sequence");
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(PLAYER_URI), player.getId())
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        var lines = Files.readAllLines(appProperties.getChangesFile());
+        var header = objectMapper.readValue(lines.get(0), PlayerChangeLogHeaderDto.class);
+        assertThat(header.epoch()).isEqualTo(snapshot.getString("epoch"));
+        var change = objectMapper.readValue(lines.get(lines.size() - 1), PlayerChangeDto.class);
+        assertThat(change).isEqualTo(new PlayerChangeDto(sequence + 1, PlayerChangeDto.Type.PLAYER_DELETED,
+                player.getId(), null, null));
+    }
+
+    @Test
+    @DisplayName("Get snapshot - ok, paged by id")
+    void getSnapshot_okPagedById() {
+        var first = createRandomPlayer();
+        var second = createRandomPlayer();
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("afterId", first.getId() - 1)
+                .param("limit", 1)
+                .get(url(SNAPSHOT_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("players.id", contains(first.getId().intValue()));
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("afterId", first.getId())
+                .param("limit", 1)
+                .get(url(SNAPSHOT_URI))
+                .then()
+                .statusCode(OK.value())
+                .body("players.id", contains(second.getId().intValue()));
+    }
+
+    @Test
+    @DisplayName("Get snapshot - limit not positive")
+    void getSnapshot_limitNotPositive() {
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .param("limit", 0)
+                .get(url(SNAPSHOT_URI))
+                .then()
+                .statusCode(BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("Get game IDs - ok, found all")
     void getGameIds_okFoundAll() {
@@ -195,6 +407,72 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .body("games", empty());
     }
 
+    @Test
+    @DisplayName("Get game IDs - ok, players without a game left out")
+    void getGameIds_okPlayersWithoutGameLeftOut() {
+        String name = make();
+        Long removedGameId = generateId();
+        var player = createPlayer(name);
+        createPlayer(name, null);
+        createPlayer(name, removedGameId);
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .put(url(GAME_URI), removedGameId)
+                .then()
+                .statusCode(OK.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(PLAYERS_GAMES_URI), name)
+                .then()
+                .statusCode(OK.value())
+                .body("games", contains(player.getGameId().intValue()));
+    }
+
+    @Test
+    @DisplayName("Get game IDs - ok, follows game updates, removals and deletions")
+    void getGameIds_okFollowsChanges() throws JSONException {
+        String name = make();
+        Long removedGameId = generateId();
+        Long newGameId = generateId();
+        var player1 = createPlayer(name, removedGameId);
+        var player2 = createPlayer(name, removedGameId);
+        var player3 = createPlayer(name, null);
+
+        given()
+                .headers(defaultHeaders())
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new JSONObject().put("gameId", newGameId).toString())
+                .when()
+                .patch(url(PLAYER_URI), player1.getId())
+                .then()
+                .statusCode(OK.value());
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .put(url(GAME_URI), removedGameId)
+                .then()
+                .statusCode(OK.value());
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .delete(url(PLAYER_URI), player3.getId())
+                .then()
+                .statusCode(NO_CONTENT.value());
+
+        given()
+                .headers(defaultHeaders())
+                .when()
+                .get(url(PLAYERS_GAMES_URI), name)
+                .then()
+                .statusCode(OK.value())
+                .body("games", contains(newGameId.intValue()));
+        assertThat(playerRepository.findById(player2.getId()).orElseThrow().getGameId()).isNull();
+    }
+
     @Test
     @DisplayName("Remove game for players - ok, game found and removed")
     void removeGameForPlayers_okGameFoundAndRemoved() {
@@ -207,7 +485,8 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .when()
                 .put(url(GAME_URI), gameId)
                 .then()
-                .statusCode(OK.value());
+                .statusCode(OK.value())
+                .body("updatedPlayers", greaterThanOrEqualTo(2));
 
         var updatedPlayer1 = playerRepository.findById(player1.getId()).orElseThrow();
         var updatedPlayer2 = playerRepository.findById(player2.getId()).orElseThrow();
@@ -246,15 +525,16 @@ public class PlayerControllerIT extends HttpBasedTest {
     }
 
     Player createPlayer(String name) {
-        return playerRepository.save(new Player()
-                .setName(name)
-                .setGameId(generateId()));
+        return createPlayer(name, generateId());
     }
 
     Player createPlayer(Long gameId) {
-        return playerRepository.save(new Player()
-                .setName(make())
-                .setGameId(gameId));
+        return createPlayer(make(), gameId);
+    }
+
+    Player createPlayer(String name, Long gameId) {
+        // Through the service, so the in-memory game index sees the player like it would a registration
+        return playerService.registerPlayer(new RegisterPlayerRequestDto(name, gameId));
     }
 
     JSONObject registerPlayerJSON() throws JSONException {
@@ -267,6 +547,12 @@ public class PlayerControllerIT extends HttpBasedTest {
                 .put("gameId", gameId);
     }
 
+    JSONObject playerGameJSON(Long id, Long gameId) throws JSONException {
+        return new JSONObject()
+                .put("id", id)
+                .put("gameId", gameId);
+    }
+
     JSONObject updatePlayerGameJSON() throws JSONException {
         return new JSONObject()
                 .put("gameId", generateId());
@@ -1,9 +1,13 @@
 package com.numarics.player.controller;
 
 import com.numarics.player.model.dto.PlayerDetailsDto;
+import com.numarics.player.model.dto.PlayerGameDto;
+import com.numarics.player.model.dto.PlayerSnapshotDto;
 import com.numarics.player.model.dto.RegisterPlayerRequestDto;
 import com.numarics.player.model.dto.RegisterPlayerResponseDto;
+import com.numarics.player.model.dto.RegisterPlayersRequestDto;
 import com.numarics.player.model.dto.UpdatePlayerGameRequestDto;
+import com.numarics.player.model.dto.UpdatePlayersGameRequestDto;
 import com.numarics.player.model.entity.Player;
 import com.numarics.player.service.PlayerService;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,6 +62,24 @@ class PlayerControllerTest {
         verifyNoMoreInteractions(playerService, conversionService);
     }
 
+    @Test
+    @DisplayName("Register players - ok")
+    void registerPlayers_ok() {
+        // Given
+        var requestDto = mock(RegisterPlayerRequestDto.class);
+        var responseDto = mock(RegisterPlayerResponseDto.class);
+
+        // When
+        when(playerService.registerPlayers(List.of(requestDto))).thenReturn(List.of(player));
+        when(conversionService.convert(player, RegisterPlayerResponseDto.class)).thenReturn(responseDto);
+
+        var result = controller.registerPlayers(new RegisterPlayersRequestDto(List.of(requestDto)));
+
+        // Then
+        assertThat(result.players()).containsExactly(responseDto);
+        verifyNoMoreInteractions(playerService, conversionService);
+    }
+
     @Test
     @DisplayName("Get player details - ok")
     void getPlayerDetails_ok() {
@@ -98,14 +120,32 @@ class PlayerControllerTest {
         Long gameId = generateId();
 
         // When
-        when(playerService.findByName(name)).thenReturn(List.of(player));
-        when(player.getGameId()).thenReturn(gameId);
+        when(playerService.getGameIdsByName(name)).thenReturn(List.of(gameId));
 
         var result = controller.getGameIds(name);
 
         // Then
         assertThat(result.games()).isEqualTo(List.of(gameId));
-        verifyNoMoreInteractions(playerService, player);
+        verifyNoMoreInteractions(playerService);
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    @DisplayName("Get snapshot - ok")
+    void getSnapshot_ok() {
+        // Given
+        Long afterId = generateId();
+        var snapshot = mock(PlayerSnapshotDto.class);
+
+        // When
+        when(playerService.getSnapshot(afterId, 10)).thenReturn(snapshot);
+
+        var result = controller.getSnapshot(afterId, 10);
+
+        // Then
+        assertThat(result).isEqualTo(snapshot);
+        verifyNoMoreInteractions(playerService);
+        verifyNoInteractions(conversionService);
     }
 
     @Test
@@ -127,6 +167,24 @@ class PlayerControllerTest {
         verifyNoMoreInteractions(playerService, conversionService);
     }
 
+    @Test
+    @DisplayName("Update players game - ok")
+    void updatePlayersGame_ok() {
+        // Given
+        var playerGameDto = mock(PlayerGameDto.class);
+        var playerDetailsDto = mock(PlayerDetailsDto.class);
+
+        // When
+        when(playerService.updatePlayersGame(List.of(playerGameDto))).thenReturn(List.of(player));
+        when(conversionService.convert(player, PlayerDetailsDto.class)).thenReturn(playerDetailsDto);
+
+        var result = controller.updatePlayersGame(new UpdatePlayersGameRequestDto(List.of(playerGameDto)));
+
+        // Then
+        assertThat(result.players()).containsExactly(playerDetailsDto);
+        verifyNoMoreInteractions(playerService, conversionService);
+    }
+
     @Test
     @DisplayName("Remove game for players - ok")
     void removeGameForPlayers_ok() {
@@ -134,10 +192,11 @@ class PlayerControllerTest {
         Long gameId = generateId();
 
         // When
-        controller.removeGameForPlayers(gameId);
+        when(playerService.removeGameForPlayers(gameId)).thenReturn(2);
+        var result = controller.removeGameForPlayers(gameId);
 
         // Then
-        verify(playerService, times(1)).removeGameForPlayers(gameId);
+        assertThat(result.updatedPlayers()).isEqualTo(2);
         verifyNoMoreInteractions(playerService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.numarics.player.service;
+
+import com.numarics.player.model.dto.RegisterPlayerRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static com.numarics.player.TestUtil.generateId;
+import static net.bytebuddy.utility.RandomString.make;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The log's parent is a regular file, so neither starting, appending to nor rotating it can succeed
+@SpringBootTest(properties = {"player.changes.file=pom.xml/player-changes.ndjson", "player.changes.rotateAfter=1"})
+class PlayerChangeLogIT {
+
+    @Autowired
+    PlayerService playerService;
+
+    @Autowired
+    PlayerChangeLog playerChangeLog;
+
+    @Autowired
+    TransactionOperations transactionOperations;
+
+    @Test
+    @DisplayName("Unwritable log - ok, player registered and its sequence skipped")
+    void unwritableLog_okPlayerRegisteredSequenceSkipped() {
+        long sequence = playerChangeLog.getPosition().sequence();
+
+        var player = playerService.registerPlayer(new RegisterPlayerRequestDto(make(), generateId()));
+
+        assertThat(playerService.getById(player.getId()).getName()).isEqualTo(player.getName());
+        assertThat(playerChangeLog.getPosition().sequence()).isEqualTo(sequence + 1);
+    }
+
+    @Test
+    @DisplayName("Rolled back change - ok, its sequence not taken")
+    void rolledBackChange_okSequenceNotTaken() {
+        var position = playerChangeLog.getPosition();
+
+        transactionOperations.executeWithoutResult(status -> {
+            playerChangeLog.playerDeleted(generateId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(playerChangeLog.getPosition()).isEqualTo(position);
+    }
+}
@@ -0,0 +1,48 @@
+package com.numarics.player.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.model.dto.PlayerChangeLogHeaderDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static com.numarics.player.TestUtil.generateId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"player.changes.file=target/rotated-player-changes.ndjson",
+        "player.changes.rotateAfter=2"})
+class PlayerChangeLogRotationIT {
+
+    @Autowired
+    PlayerChangeLog playerChangeLog;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TransactionOperations transactionOperations;
+
+    @Test
+    @DisplayName("Full log - ok, started over under a new epoch")
+    void fullLog_okStartedOverUnderNewEpoch() throws IOException {
+        var epoch = playerChangeLog.getPosition().epoch();
+
+        transactionOperations.executeWithoutResult(status -> playerChangeLog.playerDeleted(generateId()));
+        transactionOperations.executeWithoutResult(status -> playerChangeLog.playerDeleted(generateId()));
+
+        var position = playerChangeLog.getPosition();
+        assertThat(position.epoch()).isNotEqualTo(epoch);
+        assertThat(position.sequence()).isZero();
+        assertThat(Files.readAllLines(appProperties.getChangesFile()))
+                .containsExactly(objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(position.epoch())));
+    }
+}
@@ -0,0 +1,275 @@
+package com.numarics.player.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.model.dto.PlayerChangeDto;
+import com.numarics.player.model.dto.PlayerChangeLogHeaderDto;
+import com.numarics.player.model.entity.Player;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.GAME_REMOVED;
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.PLAYER_CHANGED;
+import static com.numarics.player.model.dto.PlayerChangeDto.Type.PLAYER_DELETED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerChangeLogTest {
+
+    private static final long ROTATE_AFTER = 100;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    EntityManager entityManager;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    PlayerChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new PlayerChangeLog(appProperties, objectMapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("Start - ok, earlier log replaced by this run's header")
+    void start_okEarlierLogReplacedByHeader() throws IOException {
+        // Given
+        var file = directory.resolve("changes").resolve("players.ndjson");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "stale\n");
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(file);
+        changeLog.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(Files.readAllLines(file)).containsExactly(
+                objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(changeLog.getPosition().epoch())));
+        assertThat(changeLog.getPosition().epoch()).isNotEqualTo(
+                new PlayerChangeLog(appProperties, objectMapper, entityManager).getPosition().epoch());
+    }
+
+    @Test
+    @DisplayName("Start - failure logged")
+    void start_failureLogged() throws IOException {
+        // Given
+        var parent = Files.createFile(directory.resolve("players"));
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(parent.resolve("players.ndjson"));
+        changeLog.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(parent).isEmptyFile();
+    }
+
+    @Test
+    @DisplayName("Append - ok, changes numbered in order")
+    void append_okChangesNumberedInOrder() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        var first = new Player().setId(1L).setName("alice").setGameId(10L);
+        var second = new Player().setId(2L).setName("bob");
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(file);
+        when(appProperties.getChangesRotateAfter()).thenReturn(ROTATE_AFTER);
+        inTransaction(() -> changeLog.playersChanged(List.of(first, second)));
+        inTransaction(() -> changeLog.playerChanged(first.setGameId(20L)));
+        inTransaction(() -> changeLog.playerDeleted(2L));
+        inTransaction(() -> changeLog.gameRemoved(20L));
+
+        // Then
+        assertThat(read(file)).containsExactly(
+                new PlayerChangeDto(1, PLAYER_CHANGED, 1L, "alice", 10L),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 2L, "bob", null),
+                new PlayerChangeDto(3, PLAYER_CHANGED, 1L, "alice", 20L),
+                new PlayerChangeDto(4, PLAYER_DELETED, 2L, null, null),
+                new PlayerChangeDto(5, GAME_REMOVED, null, null, 20L));
+        assertThat(changeLog.getPosition().sequence()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Append - ok, applied after commit")
+    void append_okAppliedAfterCommit() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            when(appProperties.getChangesFile()).thenReturn(file);
+            when(appProperties.getChangesRotateAfter()).thenReturn(ROTATE_AFTER);
+            changeLog.playerDeleted(1L);
+            long beforeCommit = changeLog.getPosition().sequence();
+            commit();
+
+            // Then
+            assertThat(beforeCommit).isZero();
+            assertThat(read(file)).containsExactly(new PlayerChangeDto(1, PLAYER_DELETED, 1L, null, null));
+            verify(entityManager, times(1)).flush();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Append - ok, rolled back change not logged")
+    void append_okRolledBackChangeNotLogged() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            when(appProperties.getChangesFile()).thenReturn(file);
+            when(appProperties.getChangesRotateAfter()).thenReturn(ROTATE_AFTER);
+            changeLog.playerDeleted(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        inTransaction(() -> changeLog.playerDeleted(2L));
+
+        // Then
+        assertThat(read(file)).containsExactly(new PlayerChangeDto(1, PLAYER_DELETED, 2L, null, null));
+        verify(entityManager, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("Append - ok, change committed later logged after a commit in progress")
+    void append_okLaterCommitLoggedAfterCommitInProgress() throws Exception {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        var player = new Player().setId(1L).setName("alice");
+        var later = new Thread(() -> inTransaction(() ->
+                changeLog.playerChanged(new Player().setId(1L).setName("alice").setGameId(20L))));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            when(appProperties.getChangesFile()).thenReturn(file);
+            when(appProperties.getChangesRotateAfter()).thenReturn(ROTATE_AFTER);
+            changeLog.playerChanged(player.setGameId(10L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.beforeCommit(false));
+            later.start();
+            await().until(() -> later.getState() == Thread.State.WAITING);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+            later.join();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(read(file)).containsExactly(
+                new PlayerChangeDto(1, PLAYER_CHANGED, 1L, "alice", 10L),
+                new PlayerChangeDto(2, PLAYER_CHANGED, 1L, "alice", 20L));
+    }
+
+    @Test
+    @DisplayName("Append - ok, log started over under a new epoch once full")
+    void append_okRotatedOnceFull() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        String epoch = changeLog.getPosition().epoch();
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(file);
+        when(appProperties.getChangesRotateAfter()).thenReturn(2L);
+        changeLog.afterSingletonsInstantiated();
+        inTransaction(() -> changeLog.playerDeleted(1L));
+        inTransaction(() -> changeLog.playerDeleted(2L));
+        inTransaction(() -> changeLog.playerDeleted(3L));
+
+        // Then
+        var position = changeLog.getPosition();
+        assertThat(position.epoch()).isNotEqualTo(epoch);
+        assertThat(position.sequence()).isEqualTo(1);
+        assertThat(Files.readAllLines(file)).containsExactly(
+                objectMapper.writeValueAsString(new PlayerChangeLogHeaderDto(position.epoch())),
+                objectMapper.writeValueAsString(new PlayerChangeDto(1, PLAYER_DELETED, 3L, null, null)));
+    }
+
+    @Test
+    @DisplayName("Append - rotation failure keeps the current log")
+    void append_rotationFailureKeepsCurrentLog() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+        String epoch = changeLog.getPosition().epoch();
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(file, directory.resolve("missing").resolve("players.ndjson"));
+        when(appProperties.getChangesRotateAfter()).thenReturn(1L);
+        inTransaction(() -> changeLog.playerDeleted(1L));
+
+        // Then
+        assertThat(changeLog.getPosition()).isEqualTo(new PlayerChangeLog.Position(epoch, 1));
+        assertThat(read(file)).containsExactly(new PlayerChangeDto(1, PLAYER_DELETED, 1L, null, null));
+    }
+
+    @Test
+    @DisplayName("Append - failure leaves a gap in the sequence")
+    void append_failureLeavesGap() throws IOException {
+        // Given
+        var file = directory.resolve("players.ndjson");
+
+        // When
+        when(appProperties.getChangesFile()).thenReturn(directory, file);
+        when(appProperties.getChangesRotateAfter()).thenReturn(ROTATE_AFTER);
+        inTransaction(() -> changeLog.playerDeleted(1L));
+        inTransaction(() -> changeLog.playerDeleted(2L));
+
+        // Then
+        assertThat(read(file)).containsExactly(new PlayerChangeDto(2, PLAYER_DELETED, 2L, null, null));
+    }
+
+    private static void inTransaction(Runnable changes) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changes.run();
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void commit() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+    }
+
+    private List<PlayerChangeDto> read(Path file) throws IOException {
+        try (var changes = objectMapper.readerFor(PlayerChangeDto.class).<PlayerChangeDto>readValues(file.toFile())) {
+            return changes.readAll();
+        }
+    }
+}
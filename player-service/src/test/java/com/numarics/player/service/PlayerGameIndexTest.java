@@ -0,0 +1,176 @@
+package com.numarics.player.service;
+
+import com.numarics.player.model.dto.PlayerDetailsDto;
+import com.numarics.player.model.entity.Player;
+import com.numarics.player.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerGameIndexTest {
+
+    @Mock
+    PlayerRepository playerRepository;
+
+    SimpleMeterRegistry meterRegistry;
+
+    PlayerGameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new PlayerGameIndex(playerRepository, TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Rebuild - ok, existing players indexed")
+    void rebuild_okExistingPlayersIndexed() {
+        // Given
+        index.put(player(9L, "stale", 90L));
+
+        // When
+        when(playerRepository.streamAllDetails()).thenReturn(Stream.of(
+                new PlayerDetailsDto(1L, "alice", 10L),
+                new PlayerDetailsDto(2L, "alice", null)));
+        index.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(index.getGameIds("alice")).containsExactly(10L);
+        assertThat(index.getGameIds("stale")).isEmpty();
+        assertThat(meterRegistry.get(PlayerGameIndex.PLAYERS_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Get game IDs - ok, shared games listed once in order")
+    void getGameIds_okSharedGamesListedOnce() {
+        // Given
+        index.put(player(1L, "alice", 20L));
+        index.put(player(2L, "alice", 10L));
+        index.put(player(3L, "alice", 20L));
+        index.put(player(4L, "bob", 30L));
+
+        // When
+        var result = index.getGameIds("alice");
+
+        // Then
+        assertThat(result).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Get game IDs - ok, unknown name")
+    void getGameIds_okUnknownName() {
+        assertThat(index.getGameIds("nobody")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Put - ok, moved player reindexed")
+    void put_okMovedPlayerReindexed() {
+        // Given
+        index.put(player(1L, "alice", 10L));
+        index.put(player(2L, "alice", 10L));
+
+        // When
+        index.put(player(1L, "alice", 20L));
+        index.put(player(2L, "alice", null));
+        index.clearGame(10L);
+
+        // Then
+        assertThat(index.getGameIds("alice")).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("Clear game - ok, other games kept")
+    void clearGame_okOtherGamesKept() {
+        // Given
+        index.put(player(1L, "alice", 10L));
+        index.put(player(2L, "alice", 20L));
+        index.put(player(3L, "bob", 10L));
+
+        // When
+        index.clearGame(10L);
+        index.clearGame(30L);
+
+        // Then
+        assertThat(index.getGameIds("alice")).containsExactly(20L);
+        assertThat(index.getGameIds("bob")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Remove - ok, name kept while shared")
+    void remove_okNameKeptWhileShared() {
+        // Given
+        index.put(player(1L, "alice", 10L));
+        index.put(player(2L, "alice", 20L));
+        index.put(player(3L, "bob", null));
+
+        // When
+        index.remove(1L);
+        index.remove(3L);
+        index.remove(4L);
+
+        // Then
+        assertThat(index.getGameIds("alice")).containsExactly(20L);
+        assertThat(meterRegistry.get(PlayerGameIndex.PLAYERS_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Memory - ok, estimate follows the index")
+    void memory_okEstimateFollowsIndex() {
+        // Given
+        var memory = meterRegistry.get(PlayerGameIndex.MEMORY_METRIC).gauge();
+        double empty = memory.value();
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            index.put(player(id, "player-" + id, id));
+        }
+        double filled = memory.value();
+        for (long id = 1; id <= 100; id++) {
+            index.remove(id);
+        }
+
+        // Then
+        assertThat(filled).isGreaterThan(empty);
+        assertThat(memory.value()).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("Put - ok, applied after commit")
+    void put_okAppliedAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.put(player(1L, "alice", 10L));
+            var beforeCommit = index.getGameIds("alice");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(index.getGameIds("alice")).containsExactly(10L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Player player(Long id, String name, Long gameId) {
+        return new Player()
+                .setId(id)
+                .setName(name)
+                .setGameId(gameId);
+    }
+}
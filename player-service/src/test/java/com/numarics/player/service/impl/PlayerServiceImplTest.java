@@ -1,42 +1,72 @@
 package com.numarics.player.service.impl;
 
+import com.numarics.player.configuration.AppProperties;
+import com.numarics.player.exception.BadRequestException;
 import com.numarics.player.exception.ResourceNotFoundException;
+import com.numarics.player.model.dto.PlayerDetailsDto;
+import com.numarics.player.model.dto.PlayerGameDto;
 import com.numarics.player.model.dto.RegisterPlayerRequestDto;
 import com.numarics.player.model.dto.UpdatePlayerGameRequestDto;
 import com.numarics.player.model.entity.Player;
 import com.numarics.player.repository.PlayerRepository;
+import com.numarics.player.service.PlayerChangeLog;
+import com.numarics.player.service.PlayerGameIndex;
 import com.numarics.player.service.PlayerService;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.numarics.player.TestUtil.generateId;
 import static net.bytebuddy.utility.RandomString.make;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PlayerServiceImplTest {
 
+    private static final int CHUNK_SIZE = 100;
+    private static final int PAGE_SIZE = 10;
+
     PlayerService playerService;
 
     @Mock
     PlayerRepository playerRepository;
 
+    @Mock
+    AppProperties appProperties;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    PlayerGameIndex playerGameIndex;
+
+    @Mock
+    PlayerChangeLog playerChangeLog;
+
     @Mock
     Player player;
 
     @BeforeEach
     void setUp() {
-        playerService = new PlayerServiceImpl(playerRepository);
+        playerService = new PlayerServiceImpl(playerRepository, appProperties, entityManager, playerGameIndex,
+                playerChangeLog, TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -51,9 +81,42 @@ class PlayerServiceImplTest {
 
         // Then
         assertThat(result).isEqualTo(player);
+        verify(playerGameIndex, times(1)).put(player);
+        verify(playerChangeLog, times(1)).playerChanged(player);
         verifyNoMoreInteractions(playerRepository);
     }
 
+    @Test
+    @DisplayName("Register players - ok, saved in batches")
+    void registerPlayers_okSavedInBatches() {
+        // Given
+        var dtos = List.of(
+                new RegisterPlayerRequestDto(make(), generateId()),
+                new RegisterPlayerRequestDto(make(), generateId()),
+                new RegisterPlayerRequestDto(make(), null));
+
+        // When
+        when(appProperties.getRegisterBatchSize()).thenReturn(2);
+        when(playerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = playerService.registerPlayers(dtos);
+
+        // Then
+        assertThat(result)
+                .extracting(Player::getName, Player::getGameId)
+                .containsExactly(
+                        tuple(dtos.get(0).name(), dtos.get(0).gameId()),
+                        tuple(dtos.get(1).name(), dtos.get(1).gameId()),
+                        tuple(dtos.get(2).name(), null));
+        verify(entityManager).setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        verify(playerRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        result.forEach(registered -> verify(playerGameIndex, times(1)).put(registered));
+        verify(playerChangeLog, times(1)).playersChanged(result);
+        verifyNoMoreInteractions(playerRepository, entityManager);
+    }
+
     @Test
     @DisplayName("Get by ID - ok, found")
     void getById_okFound() {
@@ -94,6 +157,8 @@ class PlayerServiceImplTest {
 
         // Then
         verify(playerRepository, times(1)).delete(player);
+        verify(playerGameIndex, times(1)).remove(id);
+        verify(playerChangeLog, times(1)).playerDeleted(id);
         verifyNoMoreInteractions(playerRepository);
     }
 
@@ -111,18 +176,67 @@ class PlayerServiceImplTest {
     }
 
     @Test
-    @DisplayName("Find by name - ok")
-    void findByName_ok() {
+    @DisplayName("Get game IDs by name - ok, served from index")
+    void getGameIdsByName_okServedFromIndex() {
         // Given
         String name = make();
+        Long gameId = generateId();
 
         // When
-        when(playerRepository.findByName(name)).thenReturn(List.of(player));
-        var result = playerService.findByName(name);
+        when(playerGameIndex.getGameIds(name)).thenReturn(List.of(gameId));
+        var result = playerService.getGameIdsByName(name);
 
         // Then
-        assertThat(result).isEqualTo(List.of(player));
-        verifyNoMoreInteractions(playerRepository);
+        assertThat(result).containsExactly(gameId);
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Get snapshot - ok, log sequence read before the page of players")
+    void getSnapshot_okSequenceReadBeforePlayers() {
+        // Given
+        String epoch = make();
+        long sequence = generateId();
+        Long afterId = generateId();
+        var details = new PlayerDetailsDto(generateId(), make(), generateId());
+
+        // When
+        when(appProperties.getSnapshotMaxPageSize()).thenReturn(PAGE_SIZE);
+        when(playerChangeLog.getPosition()).thenReturn(new PlayerChangeLog.Position(epoch, sequence));
+        when(playerRepository.findDetailsAfter(afterId, PageRequest.ofSize(PAGE_SIZE - 1)))
+                .thenReturn(List.of(details));
+
+        var result = playerService.getSnapshot(afterId, PAGE_SIZE - 1);
+
+        // Then
+        assertThat(result.epoch()).isEqualTo(epoch);
+        assertThat(result.sequence()).isEqualTo(sequence);
+        assertThat(result.players()).containsExactly(details);
+        var inOrder = inOrder(playerChangeLog, playerRepository);
+        inOrder.verify(playerChangeLog).getPosition();
+        inOrder.verify(playerRepository).findDetailsAfter(afterId, PageRequest.ofSize(PAGE_SIZE - 1));
+    }
+
+    @Test
+    @DisplayName("Get snapshot - ok, first page of the largest size unless a smaller one is asked for")
+    void getSnapshot_okFirstPageOfLargestSize() {
+        // When
+        when(appProperties.getSnapshotMaxPageSize()).thenReturn(PAGE_SIZE);
+        when(playerChangeLog.getPosition()).thenReturn(new PlayerChangeLog.Position(make(), 0));
+        when(playerRepository.findDetailsAfter(Long.MIN_VALUE, PageRequest.ofSize(PAGE_SIZE))).thenReturn(List.of());
+
+        playerService.getSnapshot(null, null);
+        playerService.getSnapshot(null, PAGE_SIZE + 1);
+
+        // Then
+        verify(playerRepository, times(2)).findDetailsAfter(Long.MIN_VALUE, PageRequest.ofSize(PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("Get snapshot - limit not positive")
+    void getSnapshot_limitNotPositive() {
+        assertThrows(BadRequestException.class, () -> playerService.getSnapshot(null, 0));
+        verifyNoInteractions(playerChangeLog, playerRepository);
     }
 
     @Test
@@ -140,6 +254,8 @@ class PlayerServiceImplTest {
 
         // Then
         assertThat(result).isEqualTo(player);
+        verify(playerGameIndex, times(1)).put(player);
+        verify(playerChangeLog, times(1)).playerChanged(player);
     }
 
     @Test
@@ -156,6 +272,43 @@ class PlayerServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> playerService.updatePlayerGame(id, dto));
     }
 
+    @Test
+    @DisplayName("Update players game - ok")
+    void updatePlayersGame_ok() {
+        // Given
+        Long id = generateId();
+        Long gameId = generateId();
+        var dtos = List.of(new PlayerGameDto(id, generateId()), new PlayerGameDto(id, gameId));
+        var player = new Player().setId(id);
+
+        // When
+        when(playerRepository.findAllById(Set.of(id))).thenReturn(List.of(player));
+
+        var result = playerService.updatePlayersGame(dtos);
+
+        // Then
+        assertThat(result).containsExactly(player);
+        assertThat(player.getGameId()).isEqualTo(gameId);
+        verify(playerGameIndex, times(1)).put(player);
+        verify(playerChangeLog, times(1)).playersChanged(result);
+        verifyNoMoreInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Update players game - player not found")
+    void updatePlayersGame_playerNotFound() {
+        // Given
+        Long id = generateId();
+        var dtos = List.of(new PlayerGameDto(id, generateId()), new PlayerGameDto(id + 1, generateId()));
+
+        // When
+        when(playerRepository.findAllById(Set.of(id, id + 1))).thenReturn(List.of(player));
+
+        // Then
+        assertThrows(ResourceNotFoundException.class, () -> playerService.updatePlayersGame(dtos));
+        verifyNoInteractions(player, playerGameIndex, playerChangeLog);
+    }
+
     @Test
     @DisplayName("Remove game for player - ok")
     void removeGameForPlayers_ok() {
@@ -163,12 +316,36 @@ class PlayerServiceImplTest {
         Long id = generateId();
 
         // When
-        when(playerRepository.findByGameId(id)).thenReturn(List.of(player));
-        when(playerRepository.saveAll(anyList())).thenReturn(List.of(player));
+        when(appProperties.getRemoveGameChunkSize()).thenReturn(CHUNK_SIZE);
+        when(playerRepository.clearGameId(id, CHUNK_SIZE)).thenReturn(CHUNK_SIZE - 1);
+
+        var result = playerService.removeGameForPlayers(id);
+
+        // Then
+        assertThat(result).isEqualTo(CHUNK_SIZE - 1);
+        verify(playerRepository, times(1)).clearGameId(id, CHUNK_SIZE);
+        verify(playerGameIndex, times(1)).clearGame(id);
+        verify(playerChangeLog, times(1)).gameRemoved(id);
+        verifyNoMoreInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Remove game for player - ok, cleared in chunks")
+    void removeGameForPlayers_okClearedInChunks() {
+        // Given
+        Long id = generateId();
+
+        // When
+        when(appProperties.getRemoveGameChunkSize()).thenReturn(CHUNK_SIZE);
+        when(playerRepository.clearGameId(id, CHUNK_SIZE)).thenReturn(CHUNK_SIZE, CHUNK_SIZE, 0);
 
-        playerService.removeGameForPlayers(id);
+        var result = playerService.removeGameForPlayers(id);
 
         // Then
+        assertThat(result).isEqualTo(CHUNK_SIZE * 2);
+        verify(playerRepository, times(3)).clearGameId(id, CHUNK_SIZE);
+        verify(playerGameIndex, times(2)).clearGame(id);
+        verify(playerChangeLog, times(2)).gameRemoved(id);
         verifyNoMoreInteractions(playerRepository);
     }
 }
\ No newline at end of file